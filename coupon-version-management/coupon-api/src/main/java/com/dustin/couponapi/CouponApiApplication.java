@@ -1,11 +1,14 @@
 package com.dustin.couponapi;
 
+import com.dustin.couponapi.ratelimit.CouponIssueRateLimitProperties;
 import com.dustin.couponcore.CouponCoreConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 
 @Import(CouponCoreConfiguration.class)
+@EnableConfigurationProperties(CouponIssueRateLimitProperties.class)
 @SpringBootApplication
 public class CouponApiApplication {
 
@@ -2,15 +2,34 @@ package com.dustin.couponapi;
 
 import com.dustin.couponapi.controller.dto.CouponIssueResponseDto;
 import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @RestControllerAdvice
 public class CouponControllerAdvice {
 
+    // ErrorCode 별 응답 본문입니다. 응답은 ErrorCode의 메시지만 포함하므로 시작 시 한 번만 직렬화합니다.
+    private final Map<ErrorCode, byte[]> responseBodies = new EnumMap<>(ErrorCode.class);
+
+    public CouponControllerAdvice(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            responseBodies.put(errorCode, objectMapper.writeValueAsBytes(new CouponIssueResponseDto(false, errorCode.message)));
+        }
+    }
+
     @ExceptionHandler(CouponIssueException.class)
-    public CouponIssueResponseDto couponIssueExceptionHandler(CouponIssueException exception) {
-        return new CouponIssueResponseDto(false, exception.getErrorCode().message);
+    public ResponseEntity<byte[]> couponIssueExceptionHandler(CouponIssueException exception) {
+        return ResponseEntity.status(exception.getErrorCode() == ErrorCode.TOO_MANY_ISSUE_REQUESTS ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseBodies.get(exception.getErrorCode()));
     }
 }
-
@@ -2,11 +2,14 @@ package com.dustin.couponapi;
 
 import com.dustin.couponapi.controller.dto.CouponIssueRequestDto;
 import com.dustin.couponapi.controller.dto.CouponIssueResponseDto;
+import com.dustin.couponapi.ratelimit.CouponIssueRateLimiter;
 import com.dustin.couponapi.service.CouponIssueRequestService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RequiredArgsConstructor
 @RestController
@@ -14,21 +17,33 @@ public class CouponIssueController {
 
     private final CouponIssueRequestService couponIssueRequestService;
 
+    private final CouponIssueRateLimiter couponIssueRateLimiter;
+
     @PostMapping("/v1/issue")
-    public CouponIssueResponseDto issueV1(@RequestBody CouponIssueRequestDto body) {
+    public CouponIssueResponseDto issueV1(@RequestBody CouponIssueRequestDto body, HttpServletRequest request) {
+        couponIssueRateLimiter.check("v1-issue", request.getRemoteAddr(), body.couponId(), body.userId());
         couponIssueRequestService.issueRequestV1(body);
         return new CouponIssueResponseDto(true, null);
     }
 
     @PostMapping("/v1/issue-async")
-    public CouponIssueResponseDto issueAsyncV1(@RequestBody CouponIssueRequestDto body) {
+    public CouponIssueResponseDto issueAsyncV1(@RequestBody CouponIssueRequestDto body, HttpServletRequest request) {
+        couponIssueRateLimiter.check("v1-issue-async", request.getRemoteAddr(), body.couponId(), body.userId());
         couponIssueRequestService.asyncIssueRequestV1(body);
         return new CouponIssueResponseDto(true, null);
     }
 
     @PostMapping("/v2/issue-async")
-    public CouponIssueResponseDto issueAsyncV2(@RequestBody CouponIssueRequestDto body) {
+    public CouponIssueResponseDto issueAsyncV2(@RequestBody CouponIssueRequestDto body, HttpServletRequest request) {
+        couponIssueRateLimiter.check("v2-issue-async", request.getRemoteAddr(), body.couponId(), body.userId());
         couponIssueRequestService.asyncIssueRequestV2(body);
         return new CouponIssueResponseDto(true, null);
     }
+
+    @PostMapping("/v3/issue-async")
+    public Mono<CouponIssueResponseDto> issueAsyncV3(@RequestBody CouponIssueRequestDto body, HttpServletRequest request) {
+        couponIssueRateLimiter.check("v3-issue-async", request.getRemoteAddr(), body.couponId(), body.userId());
+        return couponIssueRequestService.asyncIssueRequestV3(body)
+                .thenReturn(new CouponIssueResponseDto(true, null));
+    }
 }
@@ -0,0 +1,30 @@
+package com.dustin.couponapi;
+
+import com.dustin.couponapi.controller.dto.CouponIssueRequestDto;
+import com.dustin.couponapi.controller.dto.WaitingRoomResponseDto;
+import com.dustin.couponcore.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 발급 요청 전에 대기열에 입장하고 순서를 확인하는 API입니다.
+// 순서 조회는 Redis 스크립트 한 번으로 처리하므로, 클라이언트는 isAdmitted가 true가 될 때까지 주기적으로 조회합니다.
+@RequiredArgsConstructor
+@RestController
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/v1/waiting-room")
+    public WaitingRoomResponseDto enter(@RequestBody CouponIssueRequestDto body) {
+        return WaitingRoomResponseDto.from(waitingRoomService.enter(body.couponId(), body.userId()));
+    }
+
+    @GetMapping("/v1/waiting-room")
+    public WaitingRoomResponseDto status(@RequestParam long couponId, @RequestParam long userId) {
+        return WaitingRoomResponseDto.from(waitingRoomService.getStatus(couponId, userId));
+    }
+}
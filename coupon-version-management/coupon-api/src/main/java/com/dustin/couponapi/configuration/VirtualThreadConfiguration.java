@@ -0,0 +1,28 @@
+package com.dustin.couponapi.configuration;
+
+import com.dustin.couponcore.util.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+// virtual-threads 프로필(coupon.threads.virtual=true)에서 Tomcat 요청을 virtual thread로 처리합니다.
+// Redis 응답, 분산 락 대기, DB row 락 대기 중에도 요청 수만큼 platform thread를 점유하지 않습니다.
+@ConditionalOnProperty(name = "coupon.threads.virtual", havingValue = "true")
+@Configuration
+public class VirtualThreadConfiguration {
+
+    // Tomcat의 요청 처리 스레드 풀을 요청마다 virtual thread를 생성하는 executor로 교체합니다.
+    // executor의 실행/대기 시간은 executor{name="tomcat.handler"} 메트릭으로 기록됩니다.
+    @Bean
+    TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(MeterRegistry meterRegistry) {
+        ExecutorService executorService = ExecutorServiceMetrics.monitor(meterRegistry,
+                VirtualThreads.newThreadPerTaskExecutor("tomcat-handler-"), "tomcat.handler", Tags.empty());
+        return protocolHandler -> protocolHandler.setExecutor(executorService);
+    }
+}
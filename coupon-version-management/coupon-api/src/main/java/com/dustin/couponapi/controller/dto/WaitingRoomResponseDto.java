@@ -0,0 +1,11 @@
+package com.dustin.couponapi.controller.dto;
+
+import com.dustin.couponcore.repository.redis.dto.WaitingRoomStatus;
+
+// isAdmitted가 true면 발급을 요청할 수 있으며, isWaiting이 true면 position번째로 대기 중입니다.
+public record WaitingRoomResponseDto(boolean isAdmitted, boolean isWaiting, long position, long estimatedWaitSeconds) {
+
+    public static WaitingRoomResponseDto from(WaitingRoomStatus status) {
+        return new WaitingRoomResponseDto(status.admitted(), status.waiting(), status.position(), status.estimatedWaitSeconds());
+    }
+}
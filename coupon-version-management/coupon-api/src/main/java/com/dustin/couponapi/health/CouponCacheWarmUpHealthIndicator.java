@@ -0,0 +1,28 @@
+package com.dustin.couponapi.health;
+
+import com.dustin.couponcore.component.CouponCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// 쿠폰 캐시 적재가 완료되기 전까지 DOWN을 반환하는 HealthIndicator입니다.
+// readiness 그룹에 포함되어, 캐시가 비어 있는 서버로 트래픽이 전달되지 않도록 합니다.
+// readiness 그룹 설정이 항상 유효하도록 빈은 항상 등록하며, 캐시 적재를 사용하지 않으면 UP을 반환합니다.
+@RequiredArgsConstructor
+@Component("couponCacheWarmUp")
+public class CouponCacheWarmUpHealthIndicator implements HealthIndicator {
+
+    // 쿠폰 캐시를 적재하는 컴포넌트입니다.
+    private final ObjectProvider<CouponCacheWarmer> couponCacheWarmer;
+
+    @Override
+    public Health health() {
+        CouponCacheWarmer warmer = couponCacheWarmer.getIfAvailable();
+        if (warmer == null || warmer.isWarmedUp()) {
+            return Health.up().build();
+        }
+        return Health.down().withDetail("reason", "coupon cache warm-up in progress").build();
+    }
+}
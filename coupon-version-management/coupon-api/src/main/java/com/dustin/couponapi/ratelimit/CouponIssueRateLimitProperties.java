@@ -0,0 +1,62 @@
+package com.dustin.couponapi.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+// 발급 요청 수 제한 설정입니다. (coupon.rate-limit)
+// user: 유저별(쿠폰, 엔드포인트 단위) 기본 제한, ip: 클라이언트 IP별(엔드포인트 단위) 제한
+// endpoints: 엔드포인트별 유저 제한, coupons: 쿠폰별 유저 제한 (coupons > endpoints > user 순으로 적용)
+// global: 모든 API 서버가 Redis에서 공유하는 쿠폰별 제한
+@ConfigurationProperties("coupon.rate-limit")
+public record CouponIssueRateLimitProperties(
+        boolean enabled,
+        Limit user,
+        Limit ip,
+        Map<String, Limit> endpoints,
+        Map<Long, Limit> coupons,
+        Global global
+) {
+
+    public CouponIssueRateLimitProperties {
+        user = user == null ? new Limit(5, 1) : user;
+        ip = ip == null ? new Limit(100, 50) : ip;
+        endpoints = endpoints == null ? Map.of() : endpoints;
+        coupons = coupons == null ? Map.of() : coupons;
+        global = global == null ? new Global(false, 0, 0) : global;
+    }
+
+    // capacity만큼 연속으로 요청할 수 있으며, 이후에는 초당 refillPerSecond 개의 요청을 허용합니다.
+    public record Limit(long capacity, double refillPerSecond) {
+
+        public Limit {
+            validate(capacity, refillPerSecond);
+        }
+    }
+
+    public record Global(boolean enabled, long capacity, double refillPerSecond) {
+
+        public Global {
+            if (enabled) {
+                validate(capacity, refillPerSecond);
+            }
+        }
+    }
+
+    // refillPerSecond가 0 이하이면 토큰이 채워지지 않고 bucket의 유효 시간도 계산할 수 없으므로 시작 시 거부합니다.
+    private static void validate(long capacity, double refillPerSecond) {
+        if (capacity <= 0 || !(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive. capacity: %s, refillPerSecond: %s"
+                    .formatted(capacity, refillPerSecond));
+        }
+    }
+
+    // 쿠폰, 엔드포인트 순으로 설정된 유저별 제한을 찾고, 없으면 기본 제한을 반환합니다.
+    public Limit userLimit(String endpoint, long couponId) {
+        Limit limit = coupons.get(couponId);
+        if (limit != null) {
+            return limit;
+        }
+        return endpoints.getOrDefault(endpoint, user);
+    }
+}
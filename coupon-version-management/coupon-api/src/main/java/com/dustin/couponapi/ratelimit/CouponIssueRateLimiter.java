@@ -0,0 +1,66 @@
+package com.dustin.couponapi.ratelimit;
+
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 발급 요청이 캐시나 Redis를 조회하기 전에 요청 수를 제한하는 컴포넌트입니다.
+// 클라이언트 IP별, 유저별 token bucket을 서버 메모리에서 확인하므로 반복 요청은 Redis에 도달하지 않고 거절됩니다.
+// global 제한을 사용하는 경우, 서버 메모리의 제한을 통과한 요청만 Redis의 쿠폰별 token bucket을 확인합니다.
+@RequiredArgsConstructor
+@Component
+public class CouponIssueRateLimiter {
+
+    // 발급 요청 수 제한 설정입니다.
+    private final CouponIssueRateLimitProperties properties;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 메트릭을 등록하는 Micrometer 레지스트리입니다.
+    private final MeterRegistry meterRegistry;
+
+    // IP 또는 유저별 token bucket입니다. 일정 시간 요청이 없는 bucket은 제거됩니다.
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(1))
+            .maximumSize(1_000_000)
+            .build();
+
+    // 요청 수 제한을 초과하면 TOO_MANY_ISSUE_REQUESTS 예외를 발생시킵니다.
+    public void check(String endpoint, String clientIp, long couponId, long userId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        CouponIssueRateLimitProperties.Limit ipLimit = properties.ip();
+        if (!tryAcquire("ip:" + endpoint + ":" + clientIp, ipLimit)) {
+            throw tooManyRequests(endpoint, "ip", () -> "ip: %s".formatted(clientIp));
+        }
+        CouponIssueRateLimitProperties.Limit userLimit = properties.userLimit(endpoint, couponId);
+        if (!tryAcquire("user:" + endpoint + ":" + couponId + ":" + userId, userLimit)) {
+            throw tooManyRequests(endpoint, "user", () -> "couponId: %s, userId: %s".formatted(couponId, userId));
+        }
+        CouponIssueRateLimitProperties.Global global = properties.global();
+        if (global.enabled()
+                && !redisRepository.tryAcquireIssueRequestRateLimit(couponId, global.capacity(), global.refillPerSecond())) {
+            throw tooManyRequests(endpoint, "global", () -> "couponId: %s".formatted(couponId));
+        }
+    }
+
+    private boolean tryAcquire(String key, CouponIssueRateLimitProperties.Limit limit) {
+        return buckets.get(key, ignored -> new TokenBucket(limit.capacity(), limit.refillPerSecond())).tryAcquire();
+    }
+
+    // 거절된 요청 수를 엔드포인트, 제한 종류 별로 기록합니다.
+    private CouponIssueException tooManyRequests(String endpoint, String scope, Supplier<String> detail) {
+        meterRegistry.counter("coupon.issue.rate.limited", "endpoint", endpoint, "scope", scope).increment();
+        return CouponIssueException.rejected(ErrorCode.TOO_MANY_ISSUE_REQUESTS, detail);
+    }
+}
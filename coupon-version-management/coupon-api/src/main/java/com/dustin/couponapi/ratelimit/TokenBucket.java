@@ -0,0 +1,34 @@
+package com.dustin.couponapi.ratelimit;
+
+// 서버 메모리에서 동작하는 token bucket입니다.
+// 토큰은 초당 refillPerSecond 개씩 capacity까지 채워지며, 요청마다 하나씩 사용합니다.
+// 토큰 계산만 하므로 짧은 synchronized 구간을 사용합니다.
+public class TokenBucket {
+
+    private final long capacity;
+
+    private final double refillPerNano;
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 토큰 하나를 사용합니다. 남은 토큰이 없으면 false를 반환합니다.
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -5,10 +5,13 @@ import com.dustin.couponcore.component.DistributeLockExecutor;
 import com.dustin.couponcore.service.AsyncCouponIssueServiceV1;
 import com.dustin.couponcore.service.AsyncCouponIssueServiceV2;
 import com.dustin.couponcore.service.CouponIssueService;
+import com.dustin.couponcore.service.ReactiveCouponIssueService;
+import com.dustin.couponcore.service.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 // @RequiredArgsConstructor 어노테이션은 final이 붙은 모든 필드에 대해 생성자를 자동으로 생성해 줍니다.
 // 이를 통해 의존성 주입 시에 명시적인 생성자 코드를 작성할 필요가 없어집니다.
@@ -26,6 +29,12 @@ public class CouponIssueRequestService {
     // 비동기 방식으로 쿠폰 발급을 처리하는 두 번째 버전의 서비스 클래스입니다.
     private final AsyncCouponIssueServiceV2 asyncCouponIssueServiceV2;
 
+    // 요청 스레드를 점유하지 않고 쿠폰 발급을 처리하는 서비스 클래스입니다.
+    private final ReactiveCouponIssueService reactiveCouponIssueService;
+
+    // 대기열을 적용하는 쿠폰의 발급 요청이 입장이 허용된 유저의 요청인지 확인하는 서비스입니다.
+    private final WaitingRoomService waitingRoomService;
+
     // 분산 락을 처리하는 컴포넌트로, 동시성 문제를 해결하기 위해 사용됩니다.
     private final DistributeLockExecutor distributeLockExecutor;
 
@@ -34,6 +43,9 @@ public class CouponIssueRequestService {
 
     // 쿠폰 발급 요청을 처리하는 메서드입니다. 동기 방식으로 쿠폰을 발급합니다.
     public void issueRequestV1(CouponIssueRequestDto requestDto) {
+        // 대기열을 적용하는 쿠폰이면 입장이 허용된 유저인지 확인합니다.
+        waitingRoomService.checkAdmitted(requestDto.couponId(), requestDto.userId());
+
         // 쿠폰 발급 서비스의 issue 메서드를 호출하여 쿠폰을 발급합니다.
         couponIssueService.issue(requestDto.couponId(), requestDto.userId());
 
@@ -43,13 +55,24 @@ public class CouponIssueRequestService {
 
     // 비동기 방식으로 쿠폰 발급 요청을 처리하는 메서드입니다. 첫 번째 버전을 사용합니다.
     public void asyncIssueRequestV1(CouponIssueRequestDto requestDto) {
+        waitingRoomService.checkAdmitted(requestDto.couponId(), requestDto.userId());
+
         // 비동기 쿠폰 발급 서비스의 issue 메서드를 호출하여 비동기적으로 쿠폰을 발급합니다.
         asyncCouponIssueServiceV1.issue(requestDto.couponId(), requestDto.userId());
     }
 
     // 비동기 방식으로 쿠폰 발급 요청을 처리하는 메서드입니다. 두 번째 버전을 사용합니다.
     public void asyncIssueRequestV2(CouponIssueRequestDto requestDto) {
+        waitingRoomService.checkAdmitted(requestDto.couponId(), requestDto.userId());
+
         // 비동기 쿠폰 발급 서비스의 issue 메서드를 호출하여 비동기적으로 쿠폰을 발급합니다.
         asyncCouponIssueServiceV2.issue(requestDto.couponId(), requestDto.userId());
     }
-}
\ No newline at end of file
+
+    // 비동기 방식으로 쿠폰 발급 요청을 처리하는 메서드입니다. 세 번째 버전을 사용합니다.
+    public Mono<Void> asyncIssueRequestV3(CouponIssueRequestDto requestDto) {
+        // 대기열 입장 확인과 발급 요청 모두 Redis 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+        return waitingRoomService.checkAdmittedReactive(requestDto.couponId(), requestDto.userId())
+                .then(reactiveCouponIssueService.issue(requestDto.couponId(), requestDto.userId()));
+    }
+}
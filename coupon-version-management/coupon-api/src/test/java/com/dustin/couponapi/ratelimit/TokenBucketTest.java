@@ -0,0 +1,46 @@
+package com.dustin.couponapi.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("capacity만큼 연속으로 요청할 수 있고, 이후에는 거절한다")
+    void capacity() {
+        // 테스트 중에는 토큰이 채워지지 않도록 충전 속도를 낮게 설정합니다.
+        TokenBucket tokenBucket = new TokenBucket(3, 0.001);
+
+        assertThat(tokenBucket.tryAcquire()).isTrue();
+        assertThat(tokenBucket.tryAcquire()).isTrue();
+        assertThat(tokenBucket.tryAcquire()).isTrue();
+        assertThat(tokenBucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 refillPerSecond 개씩 토큰이 채워진다")
+    void refill() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(1, 100);
+        assertThat(tokenBucket.tryAcquire()).isTrue();
+        assertThat(tokenBucket.tryAcquire()).isFalse();
+
+        // 0.01초마다 토큰 하나가 채워집니다.
+        Thread.sleep(50);
+
+        assertThat(tokenBucket.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("오래 사용하지 않아도 토큰은 capacity를 넘지 않는다")
+    void refillUpToCapacity() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(2, 10);
+        // 제한이 없다면 토큰이 3개 이상 채워질 시간입니다.
+        Thread.sleep(300);
+
+        assertThat(tokenBucket.tryAcquire()).isTrue();
+        assertThat(tokenBucket.tryAcquire()).isTrue();
+        assertThat(tokenBucket.tryAcquire()).isFalse();
+    }
+}
@@ -0,0 +1,212 @@
+package com.dustin.couponconsumer.component;
+
+import com.dustin.couponcore.codec.CouponIssueRequestCodec;
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.repository.redis.dto.CouponIssueDeadLetter;
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestDeadLetterKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestRetryCountKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestRetryKey;
+
+// 쿠폰 발급에 실패한 요청을 분류하여 처리하는 컴포넌트입니다.
+// 비즈니스 오류(ErrorCode)와 해석할 수 없는 요청은 dead-letter 큐로 보내고,
+// DB 타임아웃이나 락 대기 같은 일시적인 오류는 지수 백오프로 재시도합니다.
+@Component
+public class CouponIssueFailureHandler {
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // JSON 데이터의 직렬화 및 역직렬화를 담당하는 ObjectMapper입니다.
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 큐에 저장된 발급 요청을 해석하는 codec입니다.
+    private final CouponIssueRequestCodec couponIssueRequestCodec;
+
+    // dead-letter 큐와 재시도 대기열(ZSET)의 키 값입니다.
+    private final String deadLetterKey = getIssueRequestDeadLetterKey();
+    private final String retryKey = getIssueRequestRetryKey();
+
+    // 재시도 예약 횟수와 dead-letter 처리 횟수를 기록하는 메트릭입니다.
+    private final Counter retryCounter;
+    private final MeterRegistry meterRegistry;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 일시적인 오류의 최대 시도 횟수입니다. 초과하면 dead-letter 큐로 보냅니다.
+    @Value("${coupon.consumer.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    // 첫 재시도까지의 대기 시간입니다. 재시도마다 두 배씩 늘어납니다.
+    @Value("${coupon.consumer.retry.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    // 재시도 대기 시간의 최대값입니다.
+    @Value("${coupon.consumer.retry.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    // 한 번에 큐로 되돌릴 최대 재시도 요청 수입니다.
+    @Value("${coupon.consumer.retry.batch-size:100}")
+    private long retryBatchSize;
+
+    // 재시도 시간이 된 요청을 확인하는 주기입니다.
+    @Value("${coupon.consumer.retry.poll-ms:1000}")
+    private long pollMs;
+
+    // 재시도 요청을 큐로 되돌리는 스레드입니다. 리스너가 스케줄러 스레드를 점유하더라도 동작하도록 별도로 생성합니다.
+    private ScheduledExecutorService executorService;
+
+    public CouponIssueFailureHandler(RedisRepository redisRepository,
+                                     CouponIssueRequestCodec couponIssueRequestCodec,
+                                     MeterRegistry meterRegistry) {
+        this.redisRepository = redisRepository;
+        this.couponIssueRequestCodec = couponIssueRequestCodec;
+        this.meterRegistry = meterRegistry;
+        this.retryCounter = Counter.builder("coupon.issue.retry")
+                .description("일시적인 오류로 재시도가 예약된 발급 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issue.dead.letter.size", this, handler -> handler.size(deadLetterKey))
+                .description("dead-letter 큐에 쌓인 발급 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issue.retry.size", this, handler -> handler.retrySize())
+                .description("재시도를 기다리는 발급 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-issue-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.scheduleWithFixedDelay(this::requeueDueRetries, pollMs, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // 실패한 요청을 분류하여 재시도를 예약하거나 dead-letter 큐로 보냅니다.
+    // 이 메서드가 반환된 뒤 호출한 쪽은 요청을 원래 큐에서 제거해도 됩니다.
+    public void handle(String payload, Exception exception) {
+        CouponIssueRequest request;
+        try {
+            request = couponIssueRequestCodec.decode(payload);
+        } catch (IllegalArgumentException e) {
+            deadLetter(payload, "INVALID_PAYLOAD", e, 1);
+            return;
+        }
+
+        if (!isTransient(exception)) {
+            String errorCode = exception instanceof CouponIssueException couponIssueException
+                    ? couponIssueException.getErrorCode().name()
+                    : exception.getClass().getSimpleName();
+            deadLetter(payload, errorCode, exception, 1);
+            return;
+        }
+
+        // 같은 요청의 시도 횟수를 기록합니다. 성공한 요청의 기록은 만료 시간이 지나면 삭제됩니다.
+        String retryCountKey = getIssueRequestRetryCountKey(request.couponId(), request.userId());
+        long attempts = redisRepository.incr(retryCountKey, Duration.ofDays(1));
+        if (attempts >= maxAttempts) {
+            redisRepository.delete(retryCountKey);
+            deadLetter(payload, exception.getClass().getSimpleName(), exception, attempts);
+            return;
+        }
+
+        long backoffMs = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts - 1, 30));
+        redisRepository.zAddOrUpdate(retryKey, payload, System.currentTimeMillis() + backoffMs);
+        retryCounter.increment();
+        log.warn("발급 재시도 예약 attempts: %s, backoffMs: %s, target: %s".formatted(attempts, backoffMs, payload), exception);
+    }
+
+    // 재시도 시간이 된 요청을 발급 요청 큐로 되돌립니다.
+    // 다른 컨슈머와 중복으로 되돌리지 않도록 ZSET에서 제거에 성공한 요청만 큐에 추가합니다.
+    // 실패하면 로그를 남기고 다음 주기에 다시 시도합니다.
+    private void requeueDueRetries() {
+        try {
+            requeue();
+        } catch (Exception e) {
+            log.error("재시도 요청 복구 실패", e);
+        }
+    }
+
+    private void requeue() {
+        Set<String> payloads = redisRepository.zRangeByScore(retryKey, 0, System.currentTimeMillis(), retryBatchSize);
+        if (payloads == null) {
+            return;
+        }
+        for (String payload : payloads) {
+            if (redisRepository.zRem(retryKey, payload) != 1) {
+                continue;
+            }
+            CouponIssueRequest request = couponIssueRequestCodec.decode(payload);
+            redisRepository.pushIssueRequest(request.couponId(), payload);
+        }
+    }
+
+    // 요청을 실패 사유와 함께 dead-letter 큐에 추가합니다.
+    private void deadLetter(String payload, String errorCode, Exception exception, long attempts) {
+        CouponIssueDeadLetter deadLetter = new CouponIssueDeadLetter(
+                payload, errorCode, exception.getMessage(), attempts, System.currentTimeMillis());
+        try {
+            redisRepository.rPush(deadLetterKey, objectMapper.writeValueAsString(deadLetter));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("dead-letter 직렬화 실패 payload: %s".formatted(payload), e);
+        }
+        meterRegistry.counter("coupon.issue.dead.letter", "errorCode", errorCode).increment();
+        log.error("발급 실패 dead-letter errorCode: %s, target: %s".formatted(errorCode, payload), exception);
+    }
+
+    // DB 타임아웃, 락 대기, 커넥션 획득 실패처럼 다시 시도하면 성공할 수 있는 오류인지 확인합니다.
+    private boolean isTransient(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CouponIssueException) {
+                return false;
+            }
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double size(String key) {
+        Long size = redisRepository.lSize(key);
+        return size == null ? 0 : size;
+    }
+
+    private double retrySize() {
+        Long size = redisRepository.zCard(retryKey);
+        return size == null ? 0 : size;
+    }
+}
@@ -0,0 +1,128 @@
+package com.dustin.couponconsumer.component;
+
+import com.dustin.couponcore.codec.CouponIssueRequestCodec;
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.dustin.couponcore.service.CouponIssueService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 큐에서 가져온 발급 요청을 실제로 발급하는 컴포넌트입니다.
+// 모든 리스너가 공통으로 사용하며, 대기 시간과 처리 시간 메트릭을 쿠폰 ID 별로 기록합니다.
+@Component
+public class CouponIssueProcessor {
+
+    // 쿠폰 발급을 처리하는 비즈니스 로직을 담고 있는 서비스 클래스입니다.
+    private final CouponIssueService couponIssueService;
+
+    // 발급에 실패한 요청을 재시도하거나 dead-letter 큐로 보내는 컴포넌트입니다.
+    private final CouponIssueFailureHandler couponIssueFailureHandler;
+
+    // 메트릭을 등록하는 Micrometer 레지스트리입니다.
+    private final MeterRegistry meterRegistry;
+
+    // 큐에 저장된 발급 요청을 해석하는 codec입니다.
+    private final CouponIssueRequestCodec couponIssueRequestCodec;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    public CouponIssueProcessor(CouponIssueService couponIssueService,
+                                CouponIssueFailureHandler couponIssueFailureHandler,
+                                CouponIssueRequestCodec couponIssueRequestCodec,
+                                RedisRepository redisRepository,
+                                MeterRegistry meterRegistry) {
+        this.couponIssueService = couponIssueService;
+        this.couponIssueFailureHandler = couponIssueFailureHandler;
+        this.couponIssueRequestCodec = couponIssueRequestCodec;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("coupon.issue.queue.size", redisRepository, RedisRepository::issueRequestQueueSize)
+                .description("처리를 기다리는 발급 요청 수")
+                .register(meterRegistry);
+    }
+
+    // 하나의 발급 요청을 처리합니다.
+    // 실패한 요청은 재시도 대기열 또는 dead-letter 큐로 옮기므로, 반환된 뒤에는 큐에서 제거해도 됩니다.
+    public void process(String value) {
+        try {
+            CouponIssueRequest target = couponIssueRequestCodec.decode(value);
+            recordQueueTime(target);
+
+            log.info("발급 시작 target: " + target);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            couponIssueService.issue(target.couponId(), target.userId());
+            sample.stop(processingTimer(target.couponId()));
+            log.info("발급 완료 target: " + target);
+        } catch (Exception e) {
+            couponIssueFailureHandler.handle(value, e);
+        }
+    }
+
+    // 같은 쿠폰의 발급 요청을 일괄 처리합니다.
+    // 남은 수량을 초과해 발급하지 못한 요청만 dead-letter 큐로 옮기고,
+    // 묶음 전체가 실패한 경우 묶음에 포함된 요청을 각각 재시도 대기열 또는 dead-letter 큐로 옮깁니다.
+    public void processBatch(long couponId, List<String> values) {
+        Map<Long, String> valuesByUserId = new HashMap<>();
+        List<Long> overflowUserIds;
+        try {
+            List<Long> userIds = new ArrayList<>(values.size());
+            for (String value : values) {
+                CouponIssueRequest target = couponIssueRequestCodec.decode(value);
+                recordQueueTime(target);
+                userIds.add(target.userId());
+                valuesByUserId.putIfAbsent(target.userId(), value);
+            }
+
+            log.info("일괄 발급 시작 couponId: %s, size: %s".formatted(couponId, userIds.size()));
+            Timer.Sample sample = Timer.start(meterRegistry);
+            overflowUserIds = couponIssueService.issueBatch(couponId, userIds);
+            sample.stop(processingTimer(couponId));
+            log.info("일괄 발급 완료 couponId: %s, size: %s, overflow: %s".formatted(couponId, userIds.size(), overflowUserIds.size()));
+        } catch (Exception e) {
+            values.forEach(value -> couponIssueFailureHandler.handle(value, e));
+            return;
+        }
+
+        // 발급 트랜잭션이 커밋된 뒤, 수량을 초과한 요청만 실패로 처리합니다.
+        if (!overflowUserIds.isEmpty()) {
+            CouponIssueException exception = new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY,
+                    "발급 가능한 수량을 초과합니다. couponId: %s, overflow: %s".formatted(couponId, overflowUserIds.size()));
+            overflowUserIds.forEach(userId -> couponIssueFailureHandler.handle(valuesByUserId.get(userId), exception));
+        }
+    }
+
+    // 요청이 큐에 추가된 시각부터 처리를 시작한 시각까지의 대기 시간을 기록합니다.
+    private void recordQueueTime(CouponIssueRequest target) {
+        if (target.enqueuedAt() <= 0) {
+            return;
+        }
+        long queueTimeMs = Math.max(0, System.currentTimeMillis() - target.enqueuedAt());
+        Timer.builder("coupon.issue.queue.time")
+                .description("발급 요청이 큐에서 대기한 시간")
+                .tag("couponId", String.valueOf(target.couponId()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(queueTimeMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 발급 트랜잭션의 처리 시간을 기록하는 Timer입니다.
+    private Timer processingTimer(long couponId) {
+        return Timer.builder("coupon.issue.processing.time")
+                .description("발급 요청의 DB 처리 시간")
+                .tag("couponId", String.valueOf(couponId))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.dustin.couponconsumer.configuration;
+
+import com.dustin.couponcore.util.VirtualThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// virtual-threads 프로필(coupon.threads.virtual=true)에서 @Scheduled 리스너를 virtual thread로 실행합니다.
+// 파티션 워커(CouponIssuePartitionListener)는 같은 설정으로 워커마다 virtual thread를 생성합니다.
+@ConditionalOnProperty(name = "coupon.threads.virtual", havingValue = "true")
+@Configuration
+public class VirtualThreadConfiguration {
+
+    // Spring Boot의 기본 TaskScheduler 대신 사용됩니다.
+    // 스케줄러 스레드가 하나면 실행이 긴 작업이 다른 작업을 지연시키므로, 동시에 실행될 수 있는 @Scheduled 작업 수 이상으로 설정합니다.
+    @Bean
+    ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadFactory(VirtualThreads.threadFactory("coupon-scheduling-"));
+        return taskScheduler;
+    }
+}
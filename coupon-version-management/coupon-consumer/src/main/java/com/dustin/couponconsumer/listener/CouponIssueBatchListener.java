@@ -0,0 +1,135 @@
+package com.dustin.couponconsumer.listener;
+
+import com.dustin.couponconsumer.component.CouponIssueProcessor;
+import com.dustin.couponcore.codec.CouponIssueRequestCodec;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+
+// @RequiredArgsConstructor 어노테이션은 final이 붙은 모든 필드에 대해 생성자를 자동으로 생성합니다.
+@RequiredArgsConstructor
+// coupon.queue.type이 list이고 coupon.consumer.mode가 batch인 경우에만 빈으로 등록됩니다.
+@ConditionalOnExpression("'${coupon.queue.type:list}' == 'list' and '${coupon.consumer.mode:polling}' == 'batch'")
+// @Component 어노테이션은 이 클래스가 Spring의 관리되는 빈(Bean)임을 나타냅니다.
+@Component
+public class CouponIssueBatchListener {
+
+    // 큐에서 가져온 발급 요청을 발급하고 메트릭을 기록하는 컴포넌트입니다.
+    private final CouponIssueProcessor couponIssueProcessor;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 큐에 저장된 발급 요청을 해석하는 codec입니다.
+    private final CouponIssueRequestCodec couponIssueRequestCodec;
+
+    // 쿠폰 발급 요청이 담긴 Redis 큐의 키 값을 저장합니다.
+    private final String issueRequestQueueKey = getIssueRequestQueueKey();
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 한 번에 큐에서 가져올 최대 발급 요청 수입니다.
+    @Value("${coupon.consumer.batch.size:500}")
+    private int batchSize;
+
+    // 배치가 다 차지 않은 경우 다음 조회까지 대기하는 시간입니다. 부분 배치는 최대 linger-ms 동안만 대기하게 됩니다.
+    @Value("${coupon.consumer.batch.linger-ms:100}")
+    private long lingerMs;
+
+    // 큐를 처리하는 스레드입니다. 큐가 비지 않는 동안 계속 실행되므로 @Scheduled의 스케줄러 스레드를 점유하지 않도록 별도로 생성합니다.
+    private ExecutorService executorService;
+
+    // 처리 스레드의 실행 여부입니다. 애플리케이션 종료 시 false로 변경됩니다.
+    private volatile boolean running = true;
+
+    // 애플리케이션이 준비되면 처리 스레드를 시작합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "coupon-issue-batch"));
+        executorService.execute(this::work);
+    }
+
+    // 처리 스레드를 종료합니다. 처리 중인 배치는 완료된 뒤 종료됩니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 배치가 가득 차 있으면 바로 다음 배치를 처리하고, 다 차지 않았다면 요청이 쌓이기를 기다립니다.
+    // Redis 오류가 발생해도 스레드가 종료되지 않도록 로그를 남기고 다시 시도합니다.
+    private void work() {
+        while (running) {
+            try {
+                if (issue() < batchSize) {
+                    sleep();
+                }
+            } catch (Exception e) {
+                log.error("batch listener 처리 실패", e);
+                sleep();
+            }
+        }
+    }
+
+    // Redis 큐의 앞에서부터 최대 batchSize 만큼의 발급 요청을 한 번에 처리하고, 처리한 요청 수를 반환합니다.
+    private int issue() {
+        List<String> values = redisRepository.lRange(issueRequestQueueKey, 0, batchSize - 1);
+        if (values == null || values.isEmpty()) {
+            return 0;
+        }
+
+        // 발급 요청을 쿠폰 ID 별로 묶어 쿠폰마다 하나의 트랜잭션으로 발급합니다.
+        Map<Long, List<String>> targets = groupByCouponId(values);
+        targets.forEach(couponIssueProcessor::processBatch);
+
+        // 처리된 발급 요청만 큐에서 제거합니다. 그 사이 뒤에 추가된 요청은 유지됩니다.
+        redisRepository.lTrim(issueRequestQueueKey, values.size(), -1);
+        return values.size();
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(lingerMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    // 발급 요청을 큐에 들어온 순서를 유지하며 쿠폰 ID 별로 묶는 메서드입니다.
+    // 해석할 수 없는 요청은 개별 처리로 넘겨 dead-letter 큐로 보냅니다.
+    private Map<Long, List<String>> groupByCouponId(List<String> values) {
+        Map<Long, List<String>> targets = new LinkedHashMap<>();
+        for (String value : values) {
+            try {
+                CouponIssueRequest request = couponIssueRequestCodec.decode(value);
+                targets.computeIfAbsent(request.couponId(), key -> new ArrayList<>()).add(value);
+            } catch (IllegalArgumentException e) {
+                couponIssueProcessor.process(value);
+            }
+        }
+        return targets;
+    }
+}
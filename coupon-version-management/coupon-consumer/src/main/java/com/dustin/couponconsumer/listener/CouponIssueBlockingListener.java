@@ -0,0 +1,153 @@
+package com.dustin.couponconsumer.listener;
+
+import com.dustin.couponconsumer.component.CouponIssueProcessor;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestConsumerHeartbeatKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestConsumersKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestProcessingKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+
+// @RequiredArgsConstructor 어노테이션은 final이 붙은 모든 필드에 대해 생성자를 자동으로 생성합니다.
+@RequiredArgsConstructor
+// coupon.queue.type이 list이고 coupon.consumer.mode가 blocking인 경우에만 빈으로 등록됩니다.
+@ConditionalOnExpression("'${coupon.queue.type:list}' == 'list' and '${coupon.consumer.mode:polling}' == 'blocking'")
+// @Component 어노테이션은 이 클래스가 Spring의 관리되는 빈(Bean)임을 나타냅니다.
+@Component
+public class CouponIssueBlockingListener {
+
+    // 큐에서 가져온 발급 요청을 발급하고 메트릭을 기록하는 컴포넌트입니다.
+    private final CouponIssueProcessor couponIssueProcessor;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 쿠폰 발급 요청이 담긴 Redis 큐의 키 값을 저장합니다.
+    private final String issueRequestQueueKey = getIssueRequestQueueKey();
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 컨슈머 인스턴스 이름입니다. 처리 중인 요청을 보관하는 리스트의 키에 사용됩니다.
+    @Value("${coupon.consumer.name:}")
+    private String consumerName;
+
+    // 큐가 비어 있을 때 BLMOVE가 대기하는 시간입니다.
+    @Value("${coupon.consumer.blocking.timeout-ms:2000}")
+    private long timeoutMs;
+
+    // 컨슈머의 생존 여부를 나타내는 heartbeat 키의 유효 시간입니다.
+    @Value("${coupon.consumer.blocking.heartbeat-ttl-ms:30000}")
+    private long heartbeatTtlMs;
+
+    // 이 컨슈머가 처리 중인 요청을 보관하는 리스트의 키입니다.
+    private String processingKey;
+
+    // 요청을 처리하는 스레드입니다.
+    private ExecutorService executorService;
+
+    // 처리 스레드의 실행 여부입니다. 애플리케이션 종료 시 false로 변경됩니다.
+    private volatile boolean running = true;
+
+    // 컨슈머를 등록하고, 종료된 컨슈머가 처리하지 못한 요청을 큐로 되돌립니다.
+    @PostConstruct
+    void init() {
+        if (consumerName == null || consumerName.isBlank()) {
+            consumerName = "consumer-" + UUID.randomUUID();
+        }
+        processingKey = getIssueRequestProcessingKey(consumerName);
+        heartbeat();
+        redisRepository.sAdd(getIssueRequestConsumersKey(), consumerName);
+        requeueOrphanedRequests();
+    }
+
+    // heartbeat 키를 유효 시간의 1/3 주기로 갱신합니다.
+    @Scheduled(fixedDelayString = "#{${coupon.consumer.blocking.heartbeat-ttl-ms:30000} / 3}")
+    public void heartbeat() {
+        redisRepository.set(getIssueRequestConsumerHeartbeatKey(consumerName), "1", Duration.ofMillis(heartbeatTtlMs));
+    }
+
+    // 애플리케이션이 준비되면 요청을 처리하는 스레드를 시작합니다.
+    // BLMOVE로 계속 대기하므로 heartbeat가 실행되는 스케줄러 스레드와 분리합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "coupon-issue-blocking"));
+        executorService.execute(this::work);
+    }
+
+    // 처리 스레드를 종료합니다. 처리 중인 요청은 완료된 뒤 종료됩니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 요청이 도착하면 즉시 processing 리스트로 옮겨 처리합니다.
+    // 큐가 비어 있으면 폴링하지 않고 timeout-ms 동안 대기합니다.
+    // Redis 오류가 발생해도 스레드가 종료되지 않도록 로그를 남기고 다시 시도합니다.
+    private void work() {
+        while (running) {
+            try {
+                String value = redisRepository.bLMove(issueRequestQueueKey, processingKey, Duration.ofMillis(timeoutMs));
+                if (value != null) {
+                    process(value);
+                }
+            } catch (Exception e) {
+                log.error("blocking listener 처리 실패", e);
+                sleep();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    // 요청을 발급하고, 커밋이 완료된 뒤에만 processing 리스트에서 제거합니다.
+    // 발급에 실패한 요청은 재시도 대기열 또는 dead-letter 큐로 옮긴 뒤 제거합니다.
+    private void process(String value) {
+        couponIssueProcessor.process(value);
+        redisRepository.lRem(processingKey, 1, value);
+    }
+
+    // heartbeat가 만료된 컨슈머와 재시작한 자기 자신의 processing 리스트를 큐의 앞쪽으로 되돌립니다.
+    private void requeueOrphanedRequests() {
+        String consumersKey = getIssueRequestConsumersKey();
+        for (String consumer : redisRepository.sMembers(consumersKey)) {
+            boolean self = consumer.equals(consumerName);
+            if (!self && Boolean.TRUE.equals(redisRepository.hasKey(getIssueRequestConsumerHeartbeatKey(consumer)))) {
+                continue;
+            }
+            Long count = redisRepository.requeue(getIssueRequestProcessingKey(consumer), issueRequestQueueKey);
+            log.info("processing 요청 복구 consumer: %s, size: %s".formatted(consumer, count));
+            if (!self) {
+                redisRepository.sRem(consumersKey, consumer);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.dustin.couponconsumer.listener;
+
+import com.dustin.couponconsumer.component.CouponIssueProcessor;
+import com.dustin.couponcore.component.CouponIssuePartitioner;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.util.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestPartitionQueueKey;
+
+// @RequiredArgsConstructor 어노테이션은 final이 붙은 모든 필드에 대해 생성자를 자동으로 생성합니다.
+@RequiredArgsConstructor
+// coupon.queue.type이 partitioned인 경우에만 빈으로 등록됩니다.
+@ConditionalOnProperty(name = "coupon.queue.type", havingValue = "partitioned")
+// @Component 어노테이션은 이 클래스가 Spring의 관리되는 빈(Bean)임을 나타냅니다.
+@Component
+public class CouponIssuePartitionListener {
+
+    // 큐에서 가져온 발급 요청을 발급하고 메트릭을 기록하는 컴포넌트입니다.
+    private final CouponIssueProcessor couponIssueProcessor;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 쿠폰 ID를 파티션으로 나누는 컴포넌트입니다. 파티션 수를 조회하는 데 사용합니다.
+    private final CouponIssuePartitioner couponIssuePartitioner;
+
+    // 워커 스레드 풀의 메트릭을 등록하는 Micrometer 레지스트리입니다.
+    private final MeterRegistry meterRegistry;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 파티션을 나누어 처리할 워커 스레드 수입니다.
+    @Value("${coupon.consumer.partition.worker-count:4}")
+    private int workerCount;
+
+    // 담당하는 모든 파티션이 비어 있을 때 워커가 대기하는 시간입니다.
+    @Value("${coupon.consumer.partition.idle-ms:100}")
+    private long idleMs;
+
+    // true면 워커를 platform thread 대신 virtual thread로 실행합니다. (virtual-threads 프로필)
+    @Value("${coupon.threads.virtual:false}")
+    private boolean virtualThreads;
+
+    // 워커 스레드를 실행하는 스레드 풀입니다.
+    private ExecutorService executorService;
+
+    // 워커의 실행 여부입니다. 애플리케이션 종료 시 false로 변경됩니다.
+    private volatile boolean running = true;
+
+    // 애플리케이션이 준비되면 워커마다 담당 파티션을 나누어 처리를 시작합니다.
+    // 하나의 파티션은 하나의 워커만 처리하므로 쿠폰별 발급 순서가 유지되고, 서로 다른 쿠폰은 병렬로 처리됩니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int partitionCount = couponIssuePartitioner.getPartitionCount();
+        int workers = Math.min(workerCount, partitionCount);
+        executorService = ExecutorServiceMetrics.monitor(meterRegistry, newExecutorService(workers),
+                "coupon.issue.worker", Tags.empty());
+        for (int worker = 0; worker < workers; worker++) {
+            List<String> keys = new ArrayList<>();
+            for (int partition = worker; partition < partitionCount; partition += workers) {
+                keys.add(getIssueRequestPartitionQueueKey(partition));
+            }
+            log.info("worker start. worker: %s, partitions: %s".formatted(worker, keys));
+            executorService.execute(() -> work(keys));
+        }
+    }
+
+    // 워커 수만큼 스레드를 사용하는 스레드 풀을 생성합니다.
+    private ExecutorService newExecutorService(int workers) {
+        if (virtualThreads) {
+            return VirtualThreads.newThreadPerTaskExecutor("coupon-issue-worker-");
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(workers,
+                runnable -> new Thread(runnable, "coupon-issue-worker-" + sequence.getAndIncrement()));
+    }
+
+    // 워커를 종료합니다. 처리 중인 요청은 완료된 뒤 종료됩니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 담당 파티션을 돌아가며 한 건씩 처리합니다. 특정 쿠폰의 요청이 많아도 다른 파티션이 밀리지 않습니다.
+    private void work(List<String> keys) {
+        while (running) {
+            boolean processed = false;
+            for (String key : keys) {
+                processed |= issue(key);
+            }
+            if (!processed) {
+                sleep();
+            }
+        }
+    }
+
+    // 파티션의 가장 앞에 있는 요청을 발급한 뒤 큐에서 제거합니다.
+    // 발급에 실패한 요청은 재시도 대기열 또는 dead-letter 큐로 옮긴 뒤 제거합니다.
+    private boolean issue(String key) {
+        String value = redisRepository.lIndex(key, 0);
+        if (value == null) {
+            return false;
+        }
+        couponIssueProcessor.process(value);
+        redisRepository.lPop(key);
+        return true;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(idleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
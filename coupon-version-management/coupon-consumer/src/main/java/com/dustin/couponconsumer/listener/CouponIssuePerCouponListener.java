@@ -0,0 +1,59 @@
+package com.dustin.couponconsumer.listener;
+
+import com.dustin.couponconsumer.component.CouponIssueProcessor;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestCouponQueueKey;
+
+// @RequiredArgsConstructor 어노테이션은 final이 붙은 모든 필드에 대해 생성자를 자동으로 생성합니다.
+@RequiredArgsConstructor
+// coupon.queue.type이 per-coupon인 경우에만 빈으로 등록됩니다.
+@ConditionalOnProperty(name = "coupon.queue.type", havingValue = "per-coupon")
+// @Component 어노테이션은 이 클래스가 Spring의 관리되는 빈(Bean)임을 나타냅니다.
+@Component
+public class CouponIssuePerCouponListener {
+
+    // 큐에서 가져온 발급 요청을 발급하고 메트릭을 기록하는 컴포넌트입니다.
+    private final CouponIssueProcessor couponIssueProcessor;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 한 쿠폰의 큐에서 연속으로 처리할 최대 요청 수입니다. 요청이 많은 쿠폰이 다른 쿠폰의 처리를 막지 않도록 합니다.
+    @Value("${coupon.consumer.per-coupon.batch-size:100}")
+    private int batchSize;
+
+    // 등록된 쿠폰별 큐를 한 번씩 돌아가며 쿠폰마다 최대 batch-size 건을 처리합니다.
+    // 한 번의 실행에서 처리하는 양을 제한하여 요청이 계속 들어와도 스케줄러 스레드를 점유하지 않습니다.
+    // 비어 있는 큐는 목록에서 제거하여 발급이 끝난 쿠폰을 계속 조회하지 않도록 합니다.
+    @Scheduled(fixedDelayString = "${coupon.consumer.per-coupon.interval-ms:100}")
+    public void issue() {
+        for (String couponId : redisRepository.issueRequestCouponIds()) {
+            long id = Long.parseLong(couponId);
+            if (issue(getIssueRequestCouponQueueKey(id)) < batchSize) {
+                redisRepository.unregisterCouponQueueIfEmpty(id);
+            }
+        }
+    }
+
+    // 쿠폰 큐의 가장 앞에 있는 요청을 발급한 뒤 큐에서 제거합니다.
+    // 발급에 실패한 요청은 재시도 대기열 또는 dead-letter 큐로 옮긴 뒤 제거합니다.
+    private int issue(String key) {
+        int count = 0;
+        while (count < batchSize) {
+            String value = redisRepository.lIndex(key, 0);
+            if (value == null) {
+                break;
+            }
+            couponIssueProcessor.process(value);
+            redisRepository.lPop(key);
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,187 @@
+package com.dustin.couponconsumer.listener;
+
+import com.dustin.couponconsumer.component.CouponIssueProcessor;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestStreamKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestStreamPayloadField;
+
+// @RequiredArgsConstructor 어노테이션은 final이 붙은 모든 필드에 대해 생성자를 자동으로 생성합니다.
+@RequiredArgsConstructor
+// coupon.queue.type이 stream인 경우에만 빈으로 등록됩니다.
+@ConditionalOnProperty(name = "coupon.queue.type", havingValue = "stream")
+// @Component 어노테이션은 이 클래스가 Spring의 관리되는 빈(Bean)임을 나타냅니다.
+@Component
+public class CouponIssueStreamListener {
+
+    // 큐에서 가져온 발급 요청을 발급하고 메트릭을 기록하는 컴포넌트입니다.
+    private final CouponIssueProcessor couponIssueProcessor;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 쿠폰 발급 요청이 담긴 Redis Stream의 키 값과 요청이 저장된 필드명입니다.
+    private final String issueRequestStreamKey = getIssueRequestStreamKey();
+    private final String payloadField = getIssueRequestStreamPayloadField();
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 컨슈머 그룹 이름입니다. 같은 그룹의 컨슈머들은 요청을 나누어 처리합니다.
+    @Value("${coupon.queue.stream.group:coupon-consumer}")
+    private String group;
+
+    // 그룹 내에서 이 인스턴스를 구분하는 컨슈머 이름입니다.
+    @Value("${coupon.consumer.name:}")
+    private String consumerName;
+
+    // 한 번에 읽어올 최대 요청 수입니다.
+    @Value("${coupon.queue.stream.batch-size:100}")
+    private long batchSize;
+
+    // 새로운 요청이 없을 때 XREADGROUP이 대기하는 시간입니다.
+    @Value("${coupon.queue.stream.block-ms:2000}")
+    private long blockMs;
+
+    // 이 시간 이상 ACK 되지 않은 요청은 종료된 컨슈머의 요청으로 보고 가져옵니다.
+    @Value("${coupon.queue.stream.claim-idle-ms:30000}")
+    private long claimIdleMs;
+
+    // 요청을 읽어 처리하는 스레드입니다.
+    private ExecutorService executorService;
+
+    // 처리 스레드의 실행 여부입니다. 애플리케이션 종료 시 false로 변경됩니다.
+    private volatile boolean running = true;
+
+    // 컨슈머 그룹을 생성하고 컨슈머 이름을 결정합니다.
+    @PostConstruct
+    void init() {
+        if (consumerName == null || consumerName.isBlank()) {
+            consumerName = "consumer-" + UUID.randomUUID();
+        }
+        redisRepository.xGroupCreate(issueRequestStreamKey, group);
+        log.info("stream consumer start. group: %s, consumer: %s".formatted(group, consumerName));
+    }
+
+    // 애플리케이션이 준비되면 요청을 읽어 처리하는 스레드를 시작합니다.
+    // XREADGROUP으로 계속 대기하므로 reclaim, trim이 실행되는 스케줄러 스레드와 분리합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executorService = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "coupon-issue-stream"));
+        executorService.execute(this::work);
+    }
+
+    // 처리 스레드를 종료합니다. 처리 중인 요청은 완료된 뒤 종료됩니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 새로운 요청을 대기하며 읽어오고 처리합니다. 읽을 요청이 없으면 XREADGROUP이 block-ms 동안 대기합니다.
+    // Redis 오류가 발생해도 스레드가 종료되지 않도록 로그를 남기고 다시 시도합니다.
+    private void work() {
+        while (running) {
+            try {
+                List<MapRecord<String, Object, Object>> records = redisRepository.xReadGroup(
+                        issueRequestStreamKey, group, consumerName, batchSize, Duration.ofMillis(blockMs));
+                if (records != null) {
+                    records.forEach(this::process);
+                }
+            } catch (Exception e) {
+                log.error("stream listener 처리 실패", e);
+                sleep();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(blockMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    // 오랫동안 ACK 되지 않은 요청을 이 컨슈머로 가져와 다시 처리합니다.
+    // Spring Data Redis에 XAUTOCLAIM이 없어 XPENDING과 XCLAIM을 조합해 같은 동작을 구현합니다.
+    @Scheduled(fixedDelayString = "${coupon.queue.stream.claim-interval-ms:30000}")
+    public void reclaim() {
+        Duration minIdle = Duration.ofMillis(claimIdleMs);
+        RecordId[] idleIds = redisRepository.xPending(issueRequestStreamKey, group, batchSize).stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length == 0) {
+            return;
+        }
+
+        // XCLAIM은 idle 시간을 다시 확인하므로 다른 컨슈머가 먼저 가져간 요청은 제외됩니다.
+        List<MapRecord<String, Object, Object>> records = redisRepository.xClaim(
+                issueRequestStreamKey, group, consumerName, minIdle, idleIds);
+        log.info("pending 요청 재처리 size: %s".formatted(records.size()));
+        records.forEach(this::process);
+    }
+
+    // 모든 그룹에서 처리가 끝난 요청을 Stream에서 제거합니다.
+    @Scheduled(fixedDelayString = "${coupon.queue.stream.trim-interval-ms:60000}")
+    public void trim() {
+        RecordId minId = null;
+        for (StreamInfo.XInfoGroup infoGroup : redisRepository.xInfoGroups(issueRequestStreamKey).stream().toList()) {
+            // 처리 중인 요청이 있으면 가장 오래된 pending 요청, 없으면 마지막으로 전달된 요청이 기준이 됩니다.
+            PendingMessagesSummary summary = redisRepository.xPendingSummary(issueRequestStreamKey, infoGroup.groupName());
+            RecordId candidate = summary.getTotalPendingMessages() > 0
+                    ? RecordId.of(summary.minMessageId())
+                    : RecordId.of(infoGroup.lastDeliveredId());
+            if (minId == null || isBefore(candidate, minId)) {
+                minId = candidate;
+            }
+        }
+        if (minId == null) {
+            return;
+        }
+        redisRepository.xTrimMinId(issueRequestStreamKey, minId);
+    }
+
+    // 하나의 요청을 발급하고 ACK 합니다.
+    // 발급에 실패한 요청은 재시도 대기열 또는 dead-letter 큐로 옮긴 뒤 ACK 합니다.
+    // 그 전에 컨슈머가 종료되면 요청은 pending 상태로 남아 reclaim 대상이 됩니다.
+    private void process(MapRecord<String, Object, Object> record) {
+        couponIssueProcessor.process((String) record.getValue().get(payloadField));
+        redisRepository.xAck(issueRequestStreamKey, group, record.getId());
+    }
+
+    private boolean isBefore(RecordId left, RecordId right) {
+        if (left.getTimestamp() != right.getTimestamp()) {
+            return left.getTimestamp() < right.getTimestamp();
+        }
+        return left.getSequence() < right.getSequence();
+    }
+}
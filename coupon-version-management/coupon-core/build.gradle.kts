@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
 val bootJar: org.springframework.boot.gradle.tasks.bundling.BootJar by tasks
 
 bootJar.enabled = false
@@ -15,6 +19,11 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
 
+// ./gradlew :coupon-core:jmh 로 src/jmh의 벤치마크를 실행합니다. gc 프로파일러로 연산당 할당량(gc.alloc.rate.norm)을 함께 측정합니다.
+jmh {
+    profilers.add("gc")
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
@@ -0,0 +1,101 @@
+package com.dustin.couponcore.codec;
+
+import com.dustin.couponcore.model.CouponIssueDedupeType;
+import com.dustin.couponcore.model.CouponType;
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 발급 요청 큐와 쿠폰 캐시 값의 JSON, 바이너리 형식의 직렬화/역직렬화 성능을 비교합니다.
+// 직렬화 결과의 크기는 Setup에서 한 번 출력합니다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CouponCodecBenchmark {
+
+    private final CouponIssueRequestCodec jsonRequestCodec = new JsonCouponIssueRequestCodec();
+    private final CouponIssueRequestCodec binaryRequestCodec = new BinaryCouponIssueRequestCodec();
+    private final GenericJackson2JsonRedisSerializer jsonCacheSerializer = new GenericJackson2JsonRedisSerializer();
+    private final CouponCacheValueSerializer binaryCacheSerializer = new CouponCacheValueSerializer(CouponCodecType.BINARY);
+
+    private CouponIssueRequest request;
+    private String jsonRequest;
+    private String binaryRequest;
+
+    private CouponRedisEntity coupon;
+    private byte[] jsonCoupon;
+    private byte[] binaryCoupon;
+
+    @Setup
+    public void setUp() {
+        // Lua 스크립트가 enqueuedAt을 추가한 뒤 큐에 저장되는 값과 같은 형태입니다.
+        request = new CouponIssueRequest(1, 9_876_543, 1_700_000_000_000L);
+        jsonRequest = jsonRequestCodec.encode(request);
+        binaryRequest = binaryRequestCodec.encode(request);
+
+        coupon = new CouponRedisEntity(1L, CouponType.FIRST_COME_FIRST_SERVED, 500, true,
+                LocalDateTime.of(2023, 11, 3, 13, 0), LocalDateTime.of(2023, 11, 4, 13, 0),
+                CouponIssueDedupeType.SET);
+        jsonCoupon = jsonCacheSerializer.serialize(coupon);
+        binaryCoupon = binaryCacheSerializer.serialize(coupon);
+
+        System.out.printf("%nrequest bytes json: %s, binary: %s%n", jsonRequest.length(), binaryRequest.length());
+        System.out.printf("coupon cache bytes json: %s, binary: %s%n", jsonCoupon.length, binaryCoupon.length);
+    }
+
+    @Benchmark
+    public String encodeRequestJson() {
+        return jsonRequestCodec.encode(request);
+    }
+
+    @Benchmark
+    public String encodeRequestBinary() {
+        return binaryRequestCodec.encode(request);
+    }
+
+    @Benchmark
+    public CouponIssueRequest decodeRequestJson() {
+        return jsonRequestCodec.decode(jsonRequest);
+    }
+
+    @Benchmark
+    public CouponIssueRequest decodeRequestBinary() {
+        return binaryRequestCodec.decode(binaryRequest);
+    }
+
+    @Benchmark
+    public byte[] serializeCouponJson() {
+        return jsonCacheSerializer.serialize(coupon);
+    }
+
+    @Benchmark
+    public byte[] serializeCouponBinary() {
+        return binaryCacheSerializer.serialize(coupon);
+    }
+
+    @Benchmark
+    public Object deserializeCouponJson() {
+        return jsonCacheSerializer.deserialize(jsonCoupon);
+    }
+
+    @Benchmark
+    public Object deserializeCouponBinary() {
+        return binaryCacheSerializer.deserialize(binaryCoupon);
+    }
+}
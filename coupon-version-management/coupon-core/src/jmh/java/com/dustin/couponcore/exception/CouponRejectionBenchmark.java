@@ -0,0 +1,79 @@
+package com.dustin.couponcore.exception;
+
+import com.dustin.couponcore.model.CouponIssueDedupeType;
+import com.dustin.couponcore.model.CouponType;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 수량이 소진된 쿠폰의 발급 요청을 거절할 때의 비용을 비교합니다.
+// legacy: 스택 트레이스와 메시지를 가진 예외 생성 후 응답 본문 직렬화
+// stackless: 스택 트레이스 없는 예외 생성 후 미리 직렬화한 응답 본문 조회
+// ./gradlew :coupon-core:jmh 실행 시 gc 프로파일러의 gc.alloc.rate.norm으로 요청당 할당량을 함께 비교합니다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CouponRejectionBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<ErrorCode, byte[]> responseBodies = new EnumMap<>(ErrorCode.class);
+
+    private CouponRedisEntity soldOutCoupon;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        soldOutCoupon = new CouponRedisEntity(1L, CouponType.FIRST_COME_FIRST_SERVED, 500, false,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), CouponIssueDedupeType.SET);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            responseBodies.put(errorCode, objectMapper.writeValueAsBytes(responseBody(errorCode)));
+        }
+    }
+
+    @Benchmark
+    public byte[] legacyRejection() throws JsonProcessingException {
+        try {
+            throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY,
+                    "모든 발급 수량이 소진되었습니다. coupon_id : %s".formatted(soldOutCoupon.id()));
+        } catch (CouponIssueException e) {
+            return objectMapper.writeValueAsBytes(responseBody(e.getErrorCode()));
+        }
+    }
+
+    @Benchmark
+    public byte[] stacklessRejection() {
+        try {
+            soldOutCoupon.checkIssuableCoupon();
+            return null;
+        } catch (CouponIssueException e) {
+            return responseBodies.get(e.getErrorCode());
+        }
+    }
+
+    // coupon-api의 CouponIssueResponseDto와 같은 형태의 응답 본문입니다.
+    private static Map<String, Object> responseBody(ErrorCode errorCode) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("isSuccess", false);
+        body.put("comment", errorCode.message);
+        return body;
+    }
+}
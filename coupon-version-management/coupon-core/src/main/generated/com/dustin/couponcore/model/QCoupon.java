@@ -37,6 +37,8 @@ public class QCoupon extends EntityPathBase<Coupon> {
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
+    public final EnumPath<CouponIssueDedupeType> issueDedupeType = createEnum("issueDedupeType", CouponIssueDedupeType.class);
+
     public final NumberPath<Integer> issuedQuantity = createNumber("issuedQuantity", Integer.class);
 
     public final NumberPath<Integer> minAvailableAmount = createNumber("minAvailableAmount", Integer.class);
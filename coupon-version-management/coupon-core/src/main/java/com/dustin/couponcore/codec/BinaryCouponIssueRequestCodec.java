@@ -0,0 +1,73 @@
+package com.dustin.couponcore.codec;
+
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Base64;
+
+// CouponIssueRequest를 고정 길이로 저장하는 codec입니다.
+// couponId, userId를 8바이트 big-endian long 두 개(16바이트)로 만들고, 큐의 값이 문자열이므로 패딩 없는 Base64(22자)로 저장합니다.
+// enqueuedAt은 Lua 스크립트가 Redis 서버 시각을 10진수로 뒤에 붙입니다.
+// 예) ~AAAAAAAAAAEAAAAAABLWhw1700000000000 (JSON 대비 약 60% 크기, 필드 이름 파싱 없음)
+public class BinaryCouponIssueRequestCodec implements CouponIssueRequestCodec {
+
+    // 바이너리 형식임을 나타내는 첫 글자입니다. JSON은 '{'로 시작하므로 구분할 수 있습니다.
+    static final char PREFIX = '~';
+
+    private static final int BODY_BYTES = Long.BYTES * 2;
+
+    private static final int BODY_LENGTH = 1 + 22;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // JSON 형식으로 저장된 요청을 해석할 때 사용하는 ObjectMapper입니다.
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String encode(CouponIssueRequest request) {
+        byte[] body = new byte[BODY_BYTES];
+        putLong(body, 0, request.couponId());
+        putLong(body, Long.BYTES, request.userId());
+        String value = PREFIX + ENCODER.encodeToString(body);
+        return request.enqueuedAt() > 0 ? value + request.enqueuedAt() : value;
+    }
+
+    // JSON 형식으로 저장된 요청도 해석합니다.
+    @Override
+    public CouponIssueRequest decode(String value) {
+        if (isBinary(value)) {
+            return decodeBinary(value);
+        }
+        return JsonCouponIssueRequestCodec.decodeJson(objectMapper, value);
+    }
+
+    static boolean isBinary(String value) {
+        return value != null && !value.isEmpty() && value.charAt(0) == PREFIX;
+    }
+
+    static CouponIssueRequest decodeBinary(String value) {
+        if (value.length() < BODY_LENGTH) {
+            throw new IllegalArgumentException("발급 요청 역직렬화 실패 value: %s".formatted(value));
+        }
+        byte[] body = DECODER.decode(value.substring(1, BODY_LENGTH));
+        long enqueuedAt = value.length() > BODY_LENGTH ? Long.parseLong(value, BODY_LENGTH, value.length(), 10) : 0;
+        return new CouponIssueRequest(getLong(body, 0), getLong(body, Long.BYTES), enqueuedAt);
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
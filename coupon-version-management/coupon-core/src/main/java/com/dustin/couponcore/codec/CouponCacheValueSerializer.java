@@ -0,0 +1,130 @@
+package com.dustin.couponcore.codec;
+
+import com.dustin.couponcore.model.CouponIssueDedupeType;
+import com.dustin.couponcore.model.CouponType;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Redis 캐시 값의 직렬화를 담당하는 serializer입니다.
+// BINARY로 설정되면 CouponRedisEntity를 32바이트 고정 길이 바이너리로 저장하고, 그 외의 값은 JSON으로 저장합니다.
+// 읽을 때는 첫 바이트로 형식을 구분하므로 기존 JSON 캐시 값도 그대로 읽을 수 있습니다.
+public class CouponCacheValueSerializer implements RedisSerializer<Object> {
+
+    // 바이너리 형식의 버전을 나타내는 첫 바이트입니다. JSON은 '{'(0x7B) 등 출력 가능한 문자로 시작합니다.
+    private static final byte COUPON_V1 = 0x01;
+
+    // 버전(1) + id(8) + couponType(1) + totalQuantity(4) + availableIssueQuantity(1) + dateIssueStart(8) + dateIssueEnd(8) + issueDedupeType(1)
+    private static final int COUPON_V1_BYTES = 32;
+
+    // totalQuantity가 null(무제한)인 경우 저장하는 값입니다.
+    private static final int UNLIMITED_QUANTITY = -1;
+
+    // 날짜는 LocalDateTime을 UTC 기준 epoch millis로 변환하여 저장합니다. 읽을 때도 같은 기준으로 되돌립니다.
+    private static final ZoneOffset DATE_OFFSET = ZoneOffset.UTC;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    private final CouponCodecType codecType;
+
+    public CouponCacheValueSerializer(CouponCodecType codecType) {
+        this.codecType = codecType;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (codecType == CouponCodecType.BINARY && value instanceof CouponRedisEntity coupon) {
+            return serializeCoupon(coupon);
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null && bytes.length > 0 && bytes[0] == COUPON_V1) {
+            return deserializeCoupon(bytes);
+        }
+        return jsonSerializer.deserialize(bytes);
+    }
+
+    // enum은 상수마다 고정된 코드로 저장하므로, 상수의 순서를 바꾸거나 삭제해도 기존 캐시 값을 잘못 읽지 않습니다.
+    private byte[] serializeCoupon(CouponRedisEntity coupon) {
+        return ByteBuffer.allocate(COUPON_V1_BYTES)
+                .put(COUPON_V1)
+                .putLong(coupon.id())
+                .put(encodeCouponType(coupon.couponType()))
+                .putInt(coupon.totalQuantity() == null ? UNLIMITED_QUANTITY : coupon.totalQuantity())
+                .put((byte) (coupon.availableIssueQuantity() ? 1 : 0))
+                .putLong(toEpochMilli(coupon.dateIssueStart()))
+                .putLong(toEpochMilli(coupon.dateIssueEnd()))
+                .put(encodeIssueDedupeType(coupon.issueDedupeType()))
+                .array();
+    }
+
+    private CouponRedisEntity deserializeCoupon(byte[] bytes) {
+        if (bytes.length != COUPON_V1_BYTES) {
+            throw new SerializationException("쿠폰 캐시 역직렬화 실패 length: %s".formatted(bytes.length));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, COUPON_V1_BYTES - 1);
+        long id = buffer.getLong();
+        CouponType couponType = decodeCouponType(buffer.get());
+        int totalQuantity = buffer.getInt();
+        boolean availableIssueQuantity = buffer.get() == 1;
+        LocalDateTime dateIssueStart = toLocalDateTime(buffer.getLong());
+        LocalDateTime dateIssueEnd = toLocalDateTime(buffer.getLong());
+        CouponIssueDedupeType issueDedupeType = decodeIssueDedupeType(buffer.get());
+        return new CouponRedisEntity(
+                id,
+                couponType,
+                totalQuantity == UNLIMITED_QUANTITY ? null : totalQuantity,
+                availableIssueQuantity,
+                dateIssueStart,
+                dateIssueEnd,
+                issueDedupeType
+        );
+    }
+
+    // 상수를 추가하면 기존 코드와 겹치지 않는 새 코드를 부여해야 합니다. 기존 코드는 변경하지 않습니다.
+    private static byte encodeCouponType(CouponType couponType) {
+        return switch (couponType) {
+            case FIRST_COME_FIRST_SERVED -> 0;
+        };
+    }
+
+    // 알 수 없는 코드는 새 버전의 서버가 저장한 값이므로 역직렬화에 실패한 것으로 처리합니다.
+    private static CouponType decodeCouponType(byte code) {
+        return switch (code) {
+            case 0 -> CouponType.FIRST_COME_FIRST_SERVED;
+            default -> throw new SerializationException("알 수 없는 couponType 코드: %s".formatted(code));
+        };
+    }
+
+    private static byte encodeIssueDedupeType(CouponIssueDedupeType issueDedupeType) {
+        return switch (issueDedupeType) {
+            case SET -> 0;
+            case BITMAP -> 1;
+        };
+    }
+
+    private static CouponIssueDedupeType decodeIssueDedupeType(byte code) {
+        return switch (code) {
+            case 0 -> CouponIssueDedupeType.SET;
+            case 1 -> CouponIssueDedupeType.BITMAP;
+            default -> throw new SerializationException("알 수 없는 issueDedupeType 코드: %s".formatted(code));
+        };
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(DATE_OFFSET).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), DATE_OFFSET);
+    }
+}
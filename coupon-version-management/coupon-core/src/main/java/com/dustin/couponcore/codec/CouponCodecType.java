@@ -0,0 +1,10 @@
+package com.dustin.couponcore.codec;
+
+// 발급 요청 큐와 쿠폰 캐시 값의 직렬화 방식입니다.
+// 읽을 때는 설정과 관계없이 두 방식을 모두 해석하므로, 서버를 하나씩 배포하며 방식을 바꿀 수 있습니다.
+public enum CouponCodecType {
+    // JSON 문자열로 저장합니다.
+    JSON,
+    // 고정 길이 long 필드와 epoch millis 날짜로 구성된 바이너리로 저장합니다.
+    BINARY
+}
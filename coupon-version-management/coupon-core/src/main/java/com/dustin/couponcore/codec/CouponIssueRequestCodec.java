@@ -0,0 +1,13 @@
+package com.dustin.couponcore.codec;
+
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+
+// 발급 요청 큐에 저장되는 CouponIssueRequest의 직렬화 방식을 정의하는 인터페이스입니다.
+// decode는 설정된 방식과 관계없이 JSON과 바이너리 형식을 모두 해석해야 합니다.
+public interface CouponIssueRequestCodec {
+
+    String encode(CouponIssueRequest request);
+
+    // 해석할 수 없는 값이면 IllegalArgumentException을 던집니다.
+    CouponIssueRequest decode(String value);
+}
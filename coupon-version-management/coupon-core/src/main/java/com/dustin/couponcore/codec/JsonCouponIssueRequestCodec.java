@@ -0,0 +1,39 @@
+package com.dustin.couponcore.codec;
+
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// CouponIssueRequest를 JSON 문자열로 저장하는 codec입니다.
+// 예) {"couponId":1,"userId":1234567,"enqueuedAt":1700000000000}
+public class JsonCouponIssueRequestCodec implements CouponIssueRequestCodec {
+
+    // JSON 데이터의 직렬화 및 역직렬화를 담당하는 ObjectMapper입니다.
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String encode(CouponIssueRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("발급 요청 직렬화 실패 input: %s".formatted(request), e);
+        }
+    }
+
+    // 바이너리 형식으로 저장된 요청도 해석합니다.
+    @Override
+    public CouponIssueRequest decode(String value) {
+        if (BinaryCouponIssueRequestCodec.isBinary(value)) {
+            return BinaryCouponIssueRequestCodec.decodeBinary(value);
+        }
+        return decodeJson(objectMapper, value);
+    }
+
+    static CouponIssueRequest decodeJson(ObjectMapper objectMapper, String value) {
+        try {
+            return objectMapper.readValue(value, CouponIssueRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("발급 요청 역직렬화 실패 value: %s".formatted(value), e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dustin.couponcore.component;
+
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.repository.redis.dto.CouponCacheMessage;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
+import com.dustin.couponcore.service.CouponCacheService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getCouponCacheChannel;
+
+// Redis pub/sub으로 쿠폰 로컬 캐시의 갱신/삭제 메시지를 주고받는 컴포넌트입니다.
+// 발급이 완료된 쿠폰의 상태를 모든 서버의 로컬 캐시에 바로 반영하여, 로컬 캐시 만료 전에도 소진된 쿠폰 요청을 서버 안에서 거절합니다.
+// 메시지가 유실되더라도 로컬 캐시의 만료 시간이 지나면 글로벌 캐시의 값으로 갱신됩니다.
+@RequiredArgsConstructor
+@Component
+public class CouponCacheMessageListener implements MessageListener {
+
+    // 쿠폰 캐시와 관련된 서비스를 제공하는 클래스입니다.
+    private final CouponCacheService couponCacheService;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // JSON 데이터의 직렬화 및 역직렬화를 담당하는 ObjectMapper입니다.
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 쿠폰 정보를 모든 서버의 로컬 캐시에 갱신하도록 메시지를 발행합니다.
+    public void publishUpdate(CouponRedisEntity coupon) {
+        publish(CouponCacheMessage.update(coupon));
+    }
+
+    // 쿠폰 정보를 모든 서버의 로컬 캐시에서 제거하도록 메시지를 발행합니다.
+    public void publishEvict(long couponId) {
+        publish(CouponCacheMessage.evict(couponId));
+    }
+
+    // 메시지를 발행한 서버를 포함한 모든 서버가 메시지를 받아 로컬 캐시를 갱신하거나 제거합니다.
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            CouponCacheMessage cacheMessage = objectMapper.readValue(body, CouponCacheMessage.class);
+            switch (cacheMessage.type()) {
+                case UPDATE -> couponCacheService.updateCouponLocalCache(cacheMessage.coupon());
+                case EVICT -> couponCacheService.evictCouponLocalCache(cacheMessage.couponId());
+            }
+        } catch (Exception e) {
+            log.error("coupon cache message failed. message: %s".formatted(body), e);
+        }
+    }
+
+    private void publish(CouponCacheMessage cacheMessage) {
+        try {
+            redisRepository.publish(getCouponCacheChannel(), objectMapper.writeValueAsString(cacheMessage));
+        } catch (JsonProcessingException e) {
+            log.error("coupon cache message serialize failed. message: %s".formatted(cacheMessage), e);
+        }
+    }
+}
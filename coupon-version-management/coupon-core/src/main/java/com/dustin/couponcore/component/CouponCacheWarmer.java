@@ -0,0 +1,114 @@
+package com.dustin.couponcore.component;
+
+import com.dustin.couponcore.service.CouponCacheService;
+import com.dustin.couponcore.service.CouponIssueService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 발급 기간 중이거나 곧 발급이 시작되는 쿠폰을 Redis 캐시와 로컬 캐시에 미리 적재하는 컴포넌트입니다.
+// 애플리케이션 시작 시 모든 대상 쿠폰의 적재에 성공하면 warmedUp을 true로 바꾸고, 이후에도 주기적으로 발급 시작 전 쿠폰을 적재합니다.
+// 스케줄링 설정과 관계없이 동작하도록 별도의 스레드에서 실행합니다.
+@RequiredArgsConstructor
+// coupon.cache.warm-up.enabled가 true인 경우에만 빈으로 등록됩니다.
+@ConditionalOnProperty(name = "coupon.cache.warm-up.enabled", havingValue = "true")
+@Component
+public class CouponCacheWarmer {
+
+    // 쿠폰 정보를 조회하는 서비스입니다.
+    private final CouponIssueService couponIssueService;
+
+    // 쿠폰 정보를 Redis 캐시와 로컬 캐시에 적재하는 서비스입니다.
+    private final CouponCacheService couponCacheService;
+
+    // 존재하지 않는 쿠폰 ID의 요청을 거절하는 컴포넌트입니다. 발급 시작 전 쿠폰을 Bloom filter에 미리 추가합니다.
+    private final CouponExistenceFilter couponExistenceFilter;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 발급 시작 몇 분 전부터 쿠폰을 캐시에 적재할지 설정합니다.
+    @Value("${coupon.cache.warm-up.lead-minutes:10}")
+    private long leadMinutes;
+
+    // 캐시 적재 주기입니다. 로컬 캐시의 만료 시간보다 짧으면 발급 시작 전까지 로컬 캐시가 유지됩니다.
+    @Value("${coupon.cache.warm-up.interval-ms:5000}")
+    private long intervalMs;
+
+    // 캐시 적재를 실행하는 스레드입니다.
+    private ScheduledExecutorService executorService;
+
+    // 시작 시 캐시 적재가 완료되었는지 여부입니다. readiness 확인에 사용합니다.
+    private volatile boolean warmedUp = false;
+
+    // 애플리케이션이 준비되면 바로 캐시 적재를 시작하고, 이후 interval-ms 주기로 반복합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-cache-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.scheduleWithFixedDelay(this::warmUp, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    // 대상 쿠폰을 로컬 캐시를 통해 조회합니다. 로컬 캐시에 없으면 Redis 캐시, Redis 캐시에도 없으면 DB에서 읽어 두 캐시에 모두 적재됩니다.
+    // 모든 대상 쿠폰의 적재에 성공한 경우에만 warmedUp을 true로 바꿉니다.
+    // 쿠폰 목록 조회나 일부 쿠폰의 적재에 실패하면 다음 주기에 다시 시도하며, 그 전까지 warmedUp은 false로 유지됩니다.
+    private void warmUp() {
+        try {
+            List<Long> couponIds = couponIssueService.findIssuableCouponIds(LocalDateTime.now().plusMinutes(leadMinutes));
+            int failed = 0;
+            for (Long couponId : couponIds) {
+                if (!warmUp(couponId)) {
+                    failed++;
+                }
+            }
+            if (failed > 0) {
+                log.warn("coupon cache warm-up 실패 size: %s, failed: %s".formatted(couponIds.size(), failed));
+                return;
+            }
+            if (!warmedUp) {
+                log.info("coupon cache warm-up 완료 size: %s".formatted(couponIds.size()));
+                warmedUp = true;
+            }
+        } catch (Exception e) {
+            log.error("coupon cache warm-up 실패", e);
+        }
+    }
+
+    // 쿠폰 하나를 적재하고 성공 여부를 반환합니다. 실패한 쿠폰이 있어도 나머지 쿠폰은 계속 적재합니다.
+    private boolean warmUp(long couponId) {
+        try {
+            couponExistenceFilter.markExisting(couponId);
+            couponCacheService.getCouponLocalCache(couponId);
+            return true;
+        } catch (Exception e) {
+            log.warn("coupon cache warm-up 실패 couponId: %s".formatted(couponId), e);
+            return false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dustin.couponcore.component;
 
 import com.dustin.couponcore.model.event.CouponIssueCompleteEvent;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
 import com.dustin.couponcore.service.CouponCacheService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -18,6 +19,9 @@ public class CouponEventListener {
     // 쿠폰 캐시와 관련된 서비스를 제공하는 클래스입니다.
     private final CouponCacheService couponCacheService;
 
+    // 로컬 캐시 갱신 메시지를 다른 서버에 전달하는 컴포넌트입니다.
+    private final CouponCacheMessageListener couponCacheMessageListener;
+
     // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
     private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
 
@@ -29,10 +33,13 @@ public class CouponEventListener {
         log.info("issue complete. cache refresh start couponId: %s".formatted(event.couponId()));
 
         // 쿠폰 ID를 사용하여 Redis와 같은 분산 캐시에 쿠폰 데이터를 갱신합니다.
-        couponCacheService.putCouponCache(event.couponId());
+        CouponRedisEntity coupon = couponCacheService.putCouponCache(event.couponId());
+
+        // 갱신된 쿠폰 데이터로 로컬 캐시를 갱신합니다.
+        couponCacheService.updateCouponLocalCache(coupon);
 
-        // 쿠폰 ID를 사용하여 로컬 캐시에 쿠폰 데이터를 갱신합니다.
-        couponCacheService.putCouponLocalCache(event.couponId());
+        // 다른 서버(coupon-api)의 로컬 캐시에도 발급 완료 상태가 바로 반영되도록 갱신 메시지를 발행합니다.
+        couponCacheMessageListener.publishUpdate(coupon);
 
         // 캐시 갱신이 완료되었음을 알리는 로그 메시지입니다.
         log.info("issue complete cache refresh end couponId: %s".formatted(event.couponId()));
@@ -0,0 +1,178 @@
+package com.dustin.couponcore.component;
+
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.service.CouponIssueService;
+import com.dustin.couponcore.util.CouponIdBloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getCouponMissingKey;
+
+// 존재하지 않는 쿠폰 ID의 요청을 DB 조회 없이 거절하는 컴포넌트입니다.
+// DB에서 찾지 못한 쿠폰 ID를 로컬 캐시와 Redis에 짧은 시간 동안 기록하고(negative cache),
+// 설정된 경우 전체 쿠폰 ID로 만든 Bloom filter에 없는 ID는 Redis 조회 없이 서버 안에서 거절합니다.
+@Component
+public class CouponExistenceFilter {
+
+    // 쿠폰 ID 목록을 조회하는 서비스입니다.
+    private final CouponIssueService couponIssueService;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 존재하지 않는 것으로 확인된 쿠폰 ID입니다.
+    private final Cache<Long, Boolean> missingCoupons;
+
+    // 존재 여부 확인으로 거절된 요청 수입니다.
+    private final Counter bloomRejectedCounter;
+
+    private final Counter negativeRejectedCounter;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 존재하지 않는 쿠폰 ID를 기록해 두는 시간입니다. 로컬 캐시와 Redis에 같은 값을 사용합니다.
+    private final Duration negativeTtl;
+
+    // Bloom filter 사용 여부입니다.
+    @Value("${coupon.cache.bloom-filter.enabled:false}")
+    private boolean bloomFilterEnabled;
+
+    // Bloom filter에 추가될 것으로 예상하는 쿠폰 수입니다. 실제 쿠폰 수가 더 많으면 오탐률이 높아집니다.
+    @Value("${coupon.cache.bloom-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    // Bloom filter의 목표 오탐률입니다.
+    @Value("${coupon.cache.bloom-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 전체 쿠폰 ID로 Bloom filter를 다시 만드는 주기입니다.
+    @Value("${coupon.cache.bloom-filter.rebuild-interval-ms:60000}")
+    private long rebuildIntervalMs;
+
+    // Bloom filter를 다시 만드는 스레드입니다. 스케줄링 설정과 관계없이 동작하도록 별도로 생성합니다.
+    private ScheduledExecutorService executorService;
+
+    // 현재 사용 중인 Bloom filter입니다. 처음 만들어지기 전에는 null이며, 이때는 Bloom filter로 거절하지 않습니다.
+    private volatile CouponIdBloomFilter bloomFilter;
+
+    // Bloom filter를 다시 만드는 동안 기록된 쿠폰 ID입니다. 교체한 Bloom filter에 다시 추가합니다.
+    private final Set<Long> markedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public CouponExistenceFilter(CouponIssueService couponIssueService,
+                                 RedisRepository redisRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${coupon.cache.negative.ttl-ms:5000}") long negativeTtlMs) {
+        this.couponIssueService = couponIssueService;
+        this.redisRepository = redisRepository;
+        this.negativeTtl = Duration.ofMillis(negativeTtlMs);
+        this.missingCoupons = Caffeine.newBuilder()
+                .expireAfterWrite(negativeTtl)
+                .maximumSize(100_000)
+                .build();
+        this.bloomRejectedCounter = rejectedCounter(meterRegistry, "bloom");
+        this.negativeRejectedCounter = rejectedCounter(meterRegistry, "negative");
+    }
+
+    @PostConstruct
+    void init() {
+        if (!bloomFilterEnabled) {
+            return;
+        }
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-bloom-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.scheduleWithFixedDelay(this::rebuild, 0, rebuildIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // Bloom filter와 로컬 negative cache로 쿠폰 ID를 확인합니다. Redis와 DB를 조회하지 않습니다.
+    public void check(long couponId) {
+        CouponIdBloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(couponId)) {
+            bloomRejectedCounter.increment();
+            throw notExist(couponId);
+        }
+        if (missingCoupons.getIfPresent(couponId) != null) {
+            negativeRejectedCounter.increment();
+            throw notExist(couponId);
+        }
+    }
+
+    // 다른 서버가 Redis에 기록한 negative cache를 확인합니다. 캐시 미스로 DB를 조회하기 전에 호출합니다.
+    public void checkNotMissing(long couponId) {
+        if (Boolean.TRUE.equals(redisRepository.hasKey(getCouponMissingKey(couponId)))) {
+            missingCoupons.put(couponId, Boolean.TRUE);
+            negativeRejectedCounter.increment();
+            throw notExist(couponId);
+        }
+    }
+
+    // DB에서 찾지 못한 쿠폰 ID를 로컬 캐시와 Redis에 기록합니다.
+    public void markMissing(long couponId) {
+        missingCoupons.put(couponId, Boolean.TRUE);
+        redisRepository.set(getCouponMissingKey(couponId), "1", negativeTtl);
+    }
+
+    // DB에서 조회된 쿠폰 ID를 기록합니다. Bloom filter를 다시 만들기 전에 생성된 쿠폰도 조회된 이후에는 거절되지 않습니다.
+    public void markExisting(long couponId) {
+        missingCoupons.invalidate(couponId);
+        CouponIdBloomFilter filter = bloomFilter;
+        if (filter != null) {
+            filter.put(couponId);
+        }
+        markedDuringRebuild.add(couponId);
+    }
+
+    // 전체 쿠폰 ID로 새 Bloom filter를 만든 뒤 교체합니다.
+    // 실패하면 기존 Bloom filter를 유지하고 다음 주기에 다시 시도합니다.
+    private void rebuild() {
+        try {
+            markedDuringRebuild.clear();
+            List<Long> couponIds = couponIssueService.findCouponIds();
+            CouponIdBloomFilter filter = new CouponIdBloomFilter(Math.max(expectedInsertions, couponIds.size()), falsePositiveRate);
+            couponIds.forEach(filter::put);
+            bloomFilter = filter;
+            markedDuringRebuild.forEach(filter::put);
+        } catch (Exception e) {
+            log.error("coupon bloom filter rebuild 실패", e);
+        }
+    }
+
+    private CouponIssueException notExist(long couponId) {
+        return CouponIssueException.rejected(ErrorCode.COUPON_NOT_EXIST, () -> "쿠폰 정책이 존재하지 않습니다. %s".formatted(couponId));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("coupon.cache.rejected")
+                .description("존재하지 않는 쿠폰 ID로 거절된 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
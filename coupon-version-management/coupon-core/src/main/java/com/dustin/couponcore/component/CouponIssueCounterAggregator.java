@@ -0,0 +1,65 @@
+package com.dustin.couponcore.component;
+
+import com.dustin.couponcore.service.CouponIssueCounterService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// @RequiredArgsConstructor 어노테이션은 final 필드에 대한 생성자를 자동으로 생성하여 의존성 주입을 간소화합니다.
+@RequiredArgsConstructor
+// coupon.issue.mode가 sharded인 경우에만 빈으로 등록됩니다.
+@ConditionalOnProperty(name = "coupon.issue.mode", havingValue = "sharded")
+// @Component 어노테이션은 이 클래스가 Spring의 관리되는 빈(Bean)임을 나타내며, Spring IoC 컨테이너에서 사용할 수 있게 합니다.
+@Component
+public class CouponIssueCounterAggregator {
+
+    // 쿠폰별로 나뉜 발급 수량 카운터를 관리하는 서비스입니다.
+    private final CouponIssueCounterService couponIssueCounterService;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 발급 수량을 집계하는 주기입니다.
+    @Value("${coupon.issue.counter.aggregate-interval-ms:1000}")
+    private long aggregateIntervalMs;
+
+    // 발급 수량을 집계하는 스레드입니다.
+    // 발급 요청을 처리하는 coupon-api에는 스케줄링이 활성화되어 있지 않으므로, 스케줄링 설정과 관계없이 동작하도록 별도로 생성합니다.
+    private ScheduledExecutorService executorService;
+
+    @PostConstruct
+    void init() {
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-issue-counter-aggregator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.scheduleWithFixedDelay(this::aggregate, aggregateIntervalMs, aggregateIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // 카운터 row의 발급 수량을 주기적으로 합산하여 coupons.issued_quantity에 반영합니다.
+    // 예외가 발생해도 다음 주기에 다시 집계하도록 로그만 남깁니다.
+    private void aggregate() {
+        try {
+            couponIssueCounterService.aggregateAll();
+        } catch (Exception e) {
+            log.error("coupon issue counter aggregate failed", e);
+        }
+    }
+}
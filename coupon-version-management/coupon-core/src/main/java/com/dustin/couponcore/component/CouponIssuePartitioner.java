@@ -0,0 +1,47 @@
+package com.dustin.couponcore.component;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// @Component 어노테이션은 이 클래스가 Spring의 관리되는 빈(Bean)임을 나타내며, Spring IoC 컨테이너에서 사용할 수 있게 합니다.
+@Component
+public class CouponIssuePartitioner {
+
+    // 쿠폰 발급 요청 큐의 파티션 수입니다.
+    @Getter
+    private final int partitionCount;
+
+    // 쿠폰 ID를 파티션 번호로 변환하는 방식입니다.
+    private final Strategy strategy;
+
+    public CouponIssuePartitioner(@Value("${coupon.queue.partition.count:16}") int partitionCount,
+                                  @Value("${coupon.queue.partition.strategy:modulo}") Strategy strategy) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("파티션 수는 1 이상이어야 합니다. %s".formatted(partitionCount));
+        }
+        this.partitionCount = partitionCount;
+        this.strategy = strategy;
+    }
+
+    // 쿠폰 ID에 해당하는 파티션 번호를 반환합니다. 같은 쿠폰은 항상 같은 파티션에 저장됩니다.
+    public int partition(long couponId) {
+        long value = strategy == Strategy.HASH ? mix(couponId) : couponId;
+        return (int) Math.floorMod(value, (long) partitionCount);
+    }
+
+    // 연속된 쿠폰 ID가 특정 파티션에 몰리지 않도록 비트를 섞습니다. (MurmurHash3 fmix64)
+    private long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    public enum Strategy {
+        MODULO,
+        HASH
+    }
+}
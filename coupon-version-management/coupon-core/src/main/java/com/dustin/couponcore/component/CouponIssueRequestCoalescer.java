@@ -0,0 +1,216 @@
+package com.dustin.couponcore.component;
+
+import com.dustin.couponcore.codec.CouponIssueRequestCodec;
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.repository.redis.CouponIssueRequestCode;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 같은 쿠폰의 발급 요청을 서버 안에서 모아 한 번의 분산 락으로 처리하는 컴포넌트입니다. (group commit)
+// 요청 스레드는 쿠폰별 대기열에 들어가고, 대기열의 맨 앞 스레드가 리더가 되어 대기 중인 요청을 한 번에 처리합니다.
+// 리더는 분산 락을 한 번 획득한 뒤 파이프라인으로 중복 여부와 수량을 확인하고 저장하며, 각 요청 스레드는 자신의 결과를 받습니다.
+// 처리가 끝나면 다음 맨 앞 스레드가 리더가 되어, 그 사이 쌓인 요청을 처리합니다.
+@RequiredArgsConstructor
+@Component
+public class CouponIssueRequestCoalescer {
+
+    // 분산 락을 관리하는 컴포넌트로, 동시성 제어를 위해 사용됩니다.
+    private final DistributeLockExecutor distributeLockExecutor;
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 발급 요청을 큐에 저장할 형식으로 변환하는 codec입니다.
+    private final CouponIssueRequestCodec couponIssueRequestCodec;
+
+    // 쿠폰 ID 별 대기열입니다.
+    private final Map<Long, Group> groups = new ConcurrentHashMap<>();
+
+    // 요청 병합 사용 여부입니다.
+    @Value("${coupon.issue.coalesce.enabled:false}")
+    private boolean enabled;
+
+    // 리더가 한 번에 처리할 최대 요청 수입니다.
+    @Value("${coupon.issue.coalesce.max-batch-size:200}")
+    private int maxBatchSize;
+
+    // 요청이 처리 결과를 기다리는 최대 시간입니다.
+    @Value("${coupon.issue.coalesce.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 발급 요청을 대기열에 추가하고 처리 결과를 기다립니다. 발급할 수 없으면 CouponIssueException을 던집니다.
+    // wait-timeout-ms 안에 결과를 받지 못하면 대기열에서 빠져나와 FAIL_COUPON_ISSUE_REQUEST 예외를 던집니다.
+    public void issue(CouponRedisEntity coupon, long userId) {
+        redisRepository.checkIssueRequestUserId(coupon.id(), userId, coupon.issueDedupeType());
+        Waiter waiter = new Waiter(userId);
+        Group group = join(coupon.id(), waiter);
+
+        List<Waiter> batch;
+        group.lock.lock();
+        try {
+            // 맨 앞이 되거나 다른 리더가 처리해 줄 때까지 기다립니다.
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+            while (!waiter.done && group.waiters.peekFirst() != waiter) {
+                if (remainingNanos <= 0) {
+                    group.waiters.remove(waiter);
+                    removeIfEmpty(coupon.id(), group);
+                    throw new CouponIssueException(ErrorCode.FAIL_COUPON_ISSUE_REQUEST,
+                            "발급 요청 대기 시간 초과 couponId: %s, userId: %s".formatted(coupon.id(), userId));
+                }
+                remainingNanos = group.changed.awaitNanos(remainingNanos);
+            }
+            if (waiter.done) {
+                waiter.throwIfFailed();
+                return;
+            }
+            batch = new ArrayList<>(Math.min(group.waiters.size(), maxBatchSize));
+            for (Waiter next : group.waiters) {
+                if (batch.size() == maxBatchSize) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            group.waiters.remove(waiter);
+            removeIfEmpty(coupon.id(), group);
+            throw new CouponIssueException(ErrorCode.FAIL_COUPON_ISSUE_REQUEST,
+                    "발급 요청 대기 중 인터럽트 couponId: %s, userId: %s".formatted(coupon.id(), userId));
+        } finally {
+            group.lock.unlock();
+        }
+
+        // 리더가 되어 대기열 앞쪽의 요청을 한 번에 처리합니다. 처리하는 동안 도착한 요청은 대기열 뒤에 쌓입니다.
+        // 처리 중 예외가 발생해도 묶음을 대기열에서 제거하고 다음 리더를 깨워, 대기 중인 요청이 멈추지 않도록 합니다.
+        try {
+            process(coupon, batch);
+        } finally {
+            group.lock.lock();
+            try {
+                // 대기 시간이 초과되어 먼저 빠져나간 요청이 있을 수 있으므로 개수가 아닌 요청 단위로 제거합니다.
+                batch.forEach(group.waiters::remove);
+                removeIfEmpty(coupon.id(), group);
+                group.changed.signalAll();
+            } finally {
+                group.lock.unlock();
+            }
+        }
+        waiter.throwIfFailed();
+    }
+
+    // 쿠폰의 대기열에 요청을 추가합니다. 비어서 제거된 대기열에는 추가하지 않고 새 대기열을 사용합니다.
+    private Group join(long couponId, Waiter waiter) {
+        while (true) {
+            Group group = groups.computeIfAbsent(couponId, id -> new Group());
+            group.lock.lock();
+            try {
+                if (!group.removed) {
+                    group.waiters.addLast(waiter);
+                    return group;
+                }
+            } finally {
+                group.lock.unlock();
+            }
+        }
+    }
+
+    // 대기열이 비었으면 쿠폰 ID 별 대기열에서 제거합니다. group.lock을 보유한 상태에서 호출합니다.
+    private void removeIfEmpty(long couponId, Group group) {
+        if (group.waiters.isEmpty()) {
+            group.removed = true;
+            groups.remove(couponId, group);
+        }
+    }
+
+    // 분산 락을 한 번 획득하여 묶음의 모든 요청을 처리하고, 요청마다 결과를 기록합니다.
+    // Error를 포함한 모든 예외는 묶음의 요청 실패로 기록하여, 결과를 기다리는 요청이 남지 않도록 합니다.
+    private void process(CouponRedisEntity coupon, List<Waiter> batch) {
+        try {
+            long now = System.currentTimeMillis();
+            List<Long> userIds = new ArrayList<>(batch.size());
+            List<String> payloads = new ArrayList<>(batch.size());
+            for (Waiter waiter : batch) {
+                userIds.add(waiter.userId);
+                payloads.add(couponIssueRequestCodec.encode(new CouponIssueRequest(coupon.id(), waiter.userId, now)));
+            }
+            int totalIssueQuantity = coupon.totalQuantity() == null ? Integer.MAX_VALUE : coupon.totalQuantity();
+
+            List<CouponIssueRequestCode> codes = new ArrayList<>(batch.size());
+            distributeLockExecutor.execute("lock_%s".formatted(coupon.id()), 3000, 3000, () ->
+                    codes.addAll(redisRepository.issueRequestBatch(
+                            coupon.id(), userIds, payloads, totalIssueQuantity, coupon.issueDedupeType())));
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(codes.get(i));
+            }
+        } catch (Throwable e) {
+            batch.forEach(waiter -> waiter.fail(e));
+        }
+    }
+
+    private static class Group {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition changed = lock.newCondition();
+
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+        // 대기열이 비어 groups에서 제거되었는지 여부입니다. lock을 보유한 상태에서 읽고 씁니다.
+        private boolean removed;
+    }
+
+    private static class Waiter {
+
+        private final long userId;
+
+        private volatile boolean done;
+
+        private volatile RuntimeException failure;
+
+        private Waiter(long userId) {
+            this.userId = userId;
+        }
+
+        private void complete(CouponIssueRequestCode code) {
+            try {
+                CouponIssueRequestCode.checkRequestResult(code);
+            } catch (CouponIssueException e) {
+                failure = e;
+            }
+            done = true;
+        }
+
+        private void fail(Throwable e) {
+            failure = e instanceof CouponIssueException couponIssueException
+                    ? couponIssueException
+                    : new CouponIssueException(ErrorCode.FAIL_COUPON_ISSUE_REQUEST, "발급 요청 처리 실패 userId: %s, cause: %s".formatted(userId, e.getMessage()));
+            done = true;
+        }
+
+        private void throwIfFailed() {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.dustin.couponcore.configuration;
 
+import com.dustin.couponcore.codec.CouponCacheValueSerializer;
+import com.dustin.couponcore.codec.CouponCodecType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,11 +11,11 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Set;
 
 // @RequiredArgsConstructor 어노테이션은 final 필드에 대한 생성자를 자동으로 생성하여 의존성 주입을 간소화합니다.
 @RequiredArgsConstructor
@@ -23,6 +26,10 @@ public class CacheConfiguration {
     // Redis와의 연결을 관리하는 RedisConnectionFactory입니다.
     private final RedisConnectionFactory redisConnectionFactory;
 
+    // 캐시 값의 직렬화 방식입니다. json 또는 binary를 사용할 수 있습니다.
+    @Value("${coupon.codec.type:json}")
+    private CouponCodecType codecType;
+
     // @Bean 어노테이션은 이 메서드가 Spring 컨텍스트에서 관리되는 빈을 생성함을 나타냅니다.
     // @Primary 어노테이션은 여러 CacheManager 빈이 있을 때 이 빈을 기본적으로 사용하도록 지정합니다.
     @Bean
@@ -32,8 +39,9 @@ public class CacheConfiguration {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 // 캐시 키를 직렬화할 때 StringRedisSerializer를 사용하여 문자열로 변환합니다.
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                // 캐시 값을 직렬화할 때 GenericJackson2JsonRedisSerializer를 사용하여 JSON으로 변환합니다.
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                // 캐시 값을 직렬화할 때 CouponCacheValueSerializer를 사용하여 설정된 방식(JSON 또는 바이너리)으로 변환합니다.
+                // 읽을 때는 두 방식을 모두 해석하므로 기존 JSON 캐시 값도 그대로 사용할 수 있습니다.
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CouponCacheValueSerializer(codecType)))
                 // 캐시 항목의 TTL(Time to Live)을 30분으로 설정합니다.
                 .entryTtl(Duration.ofMinutes(30));
 
@@ -41,6 +49,10 @@ public class CacheConfiguration {
         return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(redisConnectionFactory)
                 // 기본 캐시 설정을 적용합니다.
                 .cacheDefaults(redisCacheConfiguration)
+                // "coupon" 캐시를 시작 시점에 생성하여 Spring Boot가 캐시 메트릭(cache.gets 등)을 등록하도록 합니다.
+                .initialCacheNames(Set.of("coupon"))
+                // 캐시 조회(hit, miss), 저장, 락 대기 통계를 수집합니다.
+                .enableStatistics()
                 // RedisCacheManager 객체를 빌드하여 반환합니다.
                 .build();
     }
@@ -0,0 +1,27 @@
+package com.dustin.couponcore.configuration;
+
+import com.dustin.couponcore.codec.BinaryCouponIssueRequestCodec;
+import com.dustin.couponcore.codec.CouponCodecType;
+import com.dustin.couponcore.codec.CouponIssueRequestCodec;
+import com.dustin.couponcore.codec.JsonCouponIssueRequestCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 발급 요청을 큐에 저장할 때 사용할 codec을 등록합니다.
+@Configuration
+public class CodecConfiguration {
+
+    // 발급 요청의 저장 형식입니다. json: JSON 문자열, binary: 고정 길이 바이너리
+    @Value("${coupon.codec.type:json}")
+    private CouponCodecType codecType;
+
+    // coupon.codec.type에 맞는 codec을 생성합니다. 읽을 때는 두 형식을 모두 해석합니다.
+    @Bean
+    public CouponIssueRequestCodec couponIssueRequestCodec() {
+        return switch (codecType) {
+            case BINARY -> new BinaryCouponIssueRequestCodec();
+            case JSON -> new JsonCouponIssueRequestCodec();
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.dustin.couponcore.configuration;
+
+import com.dustin.couponcore.datasource.ReplicaStatusMonitor;
+import com.dustin.couponcore.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// coupon.datasource.replica.enabled가 true인 경우 읽기 전용 트랜잭션을 복제 DB로 보냅니다.
+// 설정하지 않으면 spring.datasource 자동 설정으로 원본 DB 하나만 사용합니다.
+@ConditionalOnProperty(name = "coupon.datasource.replica.enabled", havingValue = "true")
+@Configuration
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @ConfigurationProperties("coupon.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaStatusMonitor replicaStatusMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${coupon.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            @Value("${coupon.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${coupon.datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        return new ReplicaStatusMonitor(replicaDataSource, maxLagMs, lagQuery, checkIntervalMs);
+    }
+
+    @Bean
+    public DataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaStatusMonitor replicaStatusMonitor) {
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaStatusMonitor);
+    }
+
+    // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 가져오도록 하여 readOnly 여부로 DataSource를 선택할 수 있게 합니다.
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
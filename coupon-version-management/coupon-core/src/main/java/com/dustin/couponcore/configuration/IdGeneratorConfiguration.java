@@ -0,0 +1,27 @@
+package com.dustin.couponcore.configuration;
+
+import com.dustin.couponcore.util.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfiguration {
+
+    // coupon_issues ID를 생성하는 SnowflakeIdGenerator입니다. Hibernate가 SnowflakeIdentifierGenerator를 통해 사용합니다.
+    // 노드 ID가 같은 서버끼리는 같은 ID를 생성할 수 있으므로, 임의의 값을 사용하지 않고 서버마다 설정한 값만 사용합니다.
+    // coupon.id.node-id가 설정되지 않았거나 범위(0~1023)를 벗어나면 애플리케이션이 시작되지 않습니다.
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${coupon.id.node-id:}") String nodeId) {
+        if (nodeId.isBlank()) {
+            throw new IllegalStateException(
+                    "coupon.id.node-id가 설정되지 않았습니다. 서버마다 다른 COUPON_ID_NODE_ID(0~%s)를 설정하거나, 로컬 환경에서는 local 프로필로 실행하세요."
+                            .formatted(SnowflakeIdGenerator.MAX_NODE_ID));
+        }
+        try {
+            return new SnowflakeIdGenerator(Long.parseLong(nodeId.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("coupon.id.node-id는 숫자여야 합니다. %s".formatted(nodeId), e);
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.dustin.couponcore.configuration;
 
+import com.dustin.couponcore.service.CouponCacheService;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -11,13 +17,60 @@ import java.time.Duration;
 @Configuration
 public class LocalCacheConfiguration {
 
+    // 로컬 캐시 항목의 만료 시간입니다. 이 시간 동안 조회되지 않은 쿠폰은 캐시에서 제거됩니다.
+    @Value("${coupon.cache.local.expire-after-write-ms:10000}")
+    private long expireAfterWriteMs;
+
+    // 로컬 캐시 항목의 갱신 시간입니다. 이 시간이 지난 항목을 조회하면 기존 값을 바로 반환하고 백그라운드에서 다시 읽습니다.
+    // expire-after-write-ms보다 작아야 하며, 0 이하면 백그라운드 갱신을 사용하지 않습니다.
+    @Value("${coupon.cache.local.refresh-after-write-ms:5000}")
+    private long refreshAfterWriteMs;
+
     @Bean
-    public CacheManager localCacheManager() {
+    public CacheManager localCacheManager(ObjectProvider<CouponCacheService> couponCacheService, MeterRegistry meterRegistry) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofSeconds(10))
-                .maximumSize(1000)
-        );
+        caffeineCacheManager.setCaffeine(cacheBuilder());
+        // "coupon" 캐시는 조회가 가장 많으므로, 만료 전에 백그라운드에서 Redis 캐시를 다시 읽어 조회 요청이 갱신을 기다리지 않도록 합니다.
+        // 캐시 통계(hit, miss, load)는 Spring Boot가 cache.gets, cache.load 메트릭으로 등록합니다.
+        caffeineCacheManager.registerCustomCache("coupon", couponCacheBuilder()
+                .build(couponCacheLoader(couponCacheService, meterRegistry)));
         return caffeineCacheManager;
     }
+
+    private Caffeine<Object, Object> cacheBuilder() {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .maximumSize(1000)
+                .recordStats();
+    }
+
+    private Caffeine<Object, Object> couponCacheBuilder() {
+        Caffeine<Object, Object> builder = cacheBuilder();
+        if (refreshAfterWriteMs > 0 && refreshAfterWriteMs < expireAfterWriteMs) {
+            builder.refreshAfterWrite(Duration.ofMillis(refreshAfterWriteMs));
+        }
+        return builder;
+    }
+
+    // 로컬 캐시의 갱신에 사용하는 CacheLoader입니다. Redis 캐시(없으면 DB)에서 쿠폰 정보를 읽습니다.
+    // CouponCacheService가 이 CacheManager를 사용하므로, 순환 참조를 피하기 위해 조회 시점에 빈을 가져옵니다.
+    private CacheLoader<Object, Object> couponCacheLoader(ObjectProvider<CouponCacheService> couponCacheService,
+                                                          MeterRegistry meterRegistry) {
+        Counter refreshCounter = Counter.builder("coupon.cache.refresh")
+                .description("로컬 캐시의 백그라운드 갱신 횟수")
+                .tag("cache", "coupon")
+                .register(meterRegistry);
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return couponCacheService.getObject().getCouponCache((Long) key);
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                refreshCounter.increment();
+                return load(key);
+            }
+        };
+    }
 }
@@ -1,12 +1,23 @@
 package com.dustin.couponcore.configuration;
 
+import com.dustin.couponcore.component.CouponCacheMessageListener;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import java.util.List;
+
+import static com.dustin.couponcore.util.CouponRedisUtils.getCouponCacheChannel;
+
+// spring.data.redis.cluster.nodes가 설정되면 Lettuce(RedisTemplate)는 Spring Boot 자동 설정으로,
+// Redisson은 아래 설정으로 Redis Cluster에 연결합니다.
 @Configuration
 public class RedisConfiguration {
 
@@ -16,11 +27,39 @@ public class RedisConfiguration {
   @Value("${spring.data.redis.port}")
   private int port;
 
+  @Value("${spring.data.redis.cluster.nodes:}")
+  private List<String> clusterNodes;
+
+  @Value("${coupon.queue.type:list}")
+  private String queueType;
+
   @Bean
   RedissonClient redissonClient() {
     Config config = new Config();
-    String address = "redis://" + host + ":" + port;
-    config.useSingleServer().setAddress(address);
+    if (clusterNodes.isEmpty()) {
+      String address = "redis://" + host + ":" + port;
+      config.useSingleServer().setAddress(address);
+      return Redisson.create(config);
+    }
+
+    // 발급 요청 스크립트의 키가 모두 같은 슬롯에 있어야 하므로 쿠폰별 큐를 사용해야 합니다.
+    if (!"per-coupon".equals(queueType)) {
+      throw new IllegalStateException("redis cluster requires coupon.queue.type=per-coupon. current: %s".formatted(queueType));
+    }
+    ClusterServersConfig clusterServersConfig = config.useClusterServers();
+    for (String node : clusterNodes) {
+      clusterServersConfig.addNodeAddress("redis://" + node.trim());
+    }
     return Redisson.create(config);
   }
+
+  // 쿠폰 로컬 캐시의 갱신/삭제 메시지를 구독합니다.
+  @Bean
+  RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                              CouponCacheMessageListener couponCacheMessageListener) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(couponCacheMessageListener, new ChannelTopic(getCouponCacheChannel()));
+    return container;
+  }
 }
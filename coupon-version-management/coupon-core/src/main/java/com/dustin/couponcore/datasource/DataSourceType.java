@@ -0,0 +1,9 @@
+package com.dustin.couponcore.datasource;
+
+// 트랜잭션이 사용할 DataSource 종류입니다.
+public enum DataSourceType {
+    // 쓰기와 잠금 조회를 처리하는 원본 DB입니다.
+    PRIMARY,
+    // 읽기 전용 트랜잭션을 처리하는 복제 DB입니다.
+    REPLICA
+}
@@ -0,0 +1,102 @@
+package com.dustin.couponcore.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 복제 DB의 연결 가능 여부와 복제 지연을 주기적으로 확인하는 컴포넌트입니다.
+// 연결할 수 없거나 복제 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 원본 DB를 사용하도록 합니다.
+public class ReplicaStatusMonitor {
+
+    // MySQL 8.0.22 이상은 Seconds_Behind_Source, 이전 버전은 Seconds_Behind_Master 컬럼에 복제 지연(초)이 담깁니다.
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replicaDataSource;
+
+    // 복제 지연 허용 시간입니다. 0 이하이면 복제 지연을 확인하지 않고 연결 가능 여부만 확인합니다.
+    private final long maxLagMs;
+
+    // 복제 지연을 조회하는 쿼리입니다.
+    private final String lagQuery;
+
+    // 상태 확인 주기입니다.
+    private final long checkIntervalMs;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 상태 확인을 실행하는 스레드입니다. 스케줄링 설정과 관계없이 동작하도록 별도로 생성합니다.
+    private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-status-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 첫 확인 전까지는 원본 DB를 사용합니다.
+    private volatile boolean available = false;
+
+    public ReplicaStatusMonitor(DataSource replicaDataSource, long maxLagMs, String lagQuery, long checkIntervalMs) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagMs = maxLagMs;
+        this.lagQuery = lagQuery;
+        this.checkIntervalMs = checkIntervalMs;
+    }
+
+    public void start() {
+        executorService.scheduleWithFixedDelay(this::check, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executorService.shutdownNow();
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // 커넥션 획득에 실패한 경우 다음 확인 전까지 복제 DB를 사용하지 않습니다.
+    public void markUnavailable() {
+        available = false;
+    }
+
+    private void check() {
+        boolean current;
+        try (Connection connection = replicaDataSource.getConnection()) {
+            current = maxLagMs <= 0 || lagMs(connection) <= maxLagMs;
+        } catch (Exception e) {
+            log.warn("replica status check failed", e);
+            current = false;
+        }
+        if (current != available) {
+            log.info("replica available changed: %s".formatted(current));
+        }
+        available = current;
+    }
+
+    // 복제 지연을 밀리초로 반환합니다. 복제가 중단되어 값이 없으면 허용 범위를 넘은 것으로 처리합니다.
+    private long lagMs(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("replication status not found. query: %s".formatted(lagQuery));
+            }
+            for (String column : LAG_COLUMNS) {
+                try {
+                    long seconds = resultSet.getLong(column);
+                    return resultSet.wasNull() ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(seconds);
+                } catch (SQLException e) {
+                    // 다른 버전의 컬럼 이름으로 다시 조회합니다.
+                }
+            }
+            throw new SQLException("replication lag column not found. query: %s".formatted(lagQuery));
+        }
+    }
+}
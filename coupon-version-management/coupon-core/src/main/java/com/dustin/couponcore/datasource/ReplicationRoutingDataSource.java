@@ -0,0 +1,62 @@
+package com.dustin.couponcore.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션은 복제 DB로, 나머지 트랜잭션은 원본 DB로 보내는 DataSource입니다.
+// 트랜잭션의 readOnly 여부는 커넥션을 실제로 사용할 때 결정되므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primaryDataSource;
+
+    private final DataSource replicaDataSource;
+
+    // 복제 DB의 상태(연결 가능 여부, 복제 지연)를 확인하는 컴포넌트입니다.
+    private final ReplicaStatusMonitor replicaStatusMonitor;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    public ReplicationRoutingDataSource(DataSource primaryDataSource,
+                                        DataSource replicaDataSource,
+                                        ReplicaStatusMonitor replicaStatusMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaStatusMonitor = replicaStatusMonitor;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    // 읽기 전용 트랜잭션이고 복제 DB를 사용할 수 있는 상태일 때만 복제 DB를 선택합니다.
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaStatusMonitor.isAvailable()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    // 복제 DB의 커넥션 획득에 실패하면 복제 DB를 사용 불가 상태로 표시하고 원본 DB의 커넥션을 반환합니다.
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineTargetDataSource() != replicaDataSource) {
+            return primaryDataSource.getConnection();
+        }
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException e) {
+            log.warn("replica connection failed. fallback to primary", e);
+            replicaStatusMonitor.markUnavailable();
+            return primaryDataSource.getConnection();
+        }
+    }
+}
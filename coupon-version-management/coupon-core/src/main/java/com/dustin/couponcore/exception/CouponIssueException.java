@@ -1,20 +1,38 @@
 package com.dustin.couponcore.exception;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.function.Supplier;
+
 @Getter
 public class CouponIssueException extends RuntimeException {
 
     private final ErrorCode errorCode;
-    private final String message;
+
+    // 예외 메시지입니다. getMessage()가 호출될 때(로그를 남길 때 등)에만 만들어집니다.
+    @Getter(AccessLevel.NONE)
+    private final Supplier<String> messageSupplier;
 
     public CouponIssueException(ErrorCode errorCode, String message) {
         this.errorCode = errorCode;
-        this.message = message;
+        this.messageSupplier = () -> message;
+    }
+
+    private CouponIssueException(ErrorCode errorCode, Supplier<String> messageSupplier) {
+        super(null, null, false, false);
+        this.errorCode = errorCode;
+        this.messageSupplier = messageSupplier;
+    }
+
+    // 발급 요청 거절(수량 소진, 중복 요청, 발급 기간 외)에 사용하는 예외를 생성합니다.
+    // 쿠폰 소진 후에는 대부분의 요청이 거절되므로 스택 트레이스를 만들지 않고, 메시지는 필요할 때만 만듭니다.
+    public static CouponIssueException rejected(ErrorCode errorCode, Supplier<String> messageSupplier) {
+        return new CouponIssueException(errorCode, messageSupplier);
     }
 
     @Override
     public String getMessage() {
-        return "[%s] %s".formatted(errorCode, message);
+        return "[%s] %s".formatted(errorCode, messageSupplier.get());
     }
 }
@@ -5,7 +5,9 @@ public enum ErrorCode {
     INVALID_COUPON_ISSUE_DATE("쿠폰 발급 기간이 유효하지 않습니다."),
     COUPON_NOT_EXIST("존재하지 않는 쿠폰입니다."),
     DUPLICATED_COUPON_ISSUE("이미 발급된 쿠폰입니다."),
-    FAIL_COUPON_ISSUE_REQUEST("쿠폰 발급 요청에 실패했습니다");
+    FAIL_COUPON_ISSUE_REQUEST("쿠폰 발급 요청에 실패했습니다"),
+    TOO_MANY_ISSUE_REQUESTS("쿠폰 발급 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    NOT_ADMITTED_ISSUE_REQUEST("대기열 입장 순서가 되지 않았습니다. 대기열에서 순서를 확인해 주세요.");
 
     public final String message;
 
@@ -46,6 +46,9 @@ public class Coupon extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalDateTime dateIssueEnd;
 
+    @Enumerated(value = EnumType.STRING)
+    private CouponIssueDedupeType issueDedupeType;
+
     public boolean availableIssueQuantity() {
         if (totalQuantity == null) {
             return true;
@@ -63,13 +66,42 @@ public class Coupon extends BaseTimeEntity {
         return dateIssueEnd.isBefore(now) || !availableIssueQuantity();
     }
 
+    public CouponIssueDedupeType getIssueDedupeType() {
+        return issueDedupeType == null ? CouponIssueDedupeType.SET : issueDedupeType;
+    }
+
+    public boolean availableIssueQuantity(int quantity) {
+        if (totalQuantity == null) {
+            return true;
+        }
+        return totalQuantity - issuedQuantity >= quantity;
+    }
+
     public void issue() {
-        if (!availableIssueQuantity()) {
-            throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY, "발급 가능한 수량을 초과합니다. total : %s, issued: %s".formatted(totalQuantity, issuedQuantity));
+        issue(1);
+    }
+
+    public void updateIssuedQuantity(int issuedQuantity) {
+        this.issuedQuantity = issuedQuantity;
+    }
+
+    // 요청한 수량 중 남은 수량만큼만 발급하고, 발급한 수량을 반환합니다.
+    // 남은 수량이 없거나 발급 기간이 아니면 issue(int)와 같은 예외가 발생합니다.
+    public int issueUpTo(int quantity) {
+        if (totalQuantity != null && totalQuantity - issuedQuantity < quantity) {
+            quantity = Math.max(1, totalQuantity - issuedQuantity);
+        }
+        issue(quantity);
+        return quantity;
+    }
+
+    public void issue(int quantity) {
+        if (!availableIssueQuantity(quantity)) {
+            throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY, "발급 가능한 수량을 초과합니다. total : %s, issued: %s, request: %s".formatted(totalQuantity, issuedQuantity, quantity));
         }
         if (!availableIssueDate()) {
             throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_DATE, "발급 가능한 일자가 아닙니다. request : %s, issueStart: %s, issueEnd: %s".formatted(LocalDateTime.now(), dateIssueStart, dateIssueEnd));
         }
-        issuedQuantity++;
+        issuedQuantity += quantity;
     }
 }
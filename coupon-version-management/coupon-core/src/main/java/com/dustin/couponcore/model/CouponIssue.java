@@ -14,11 +14,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Getter
 @Entity
-@Table(name = "coupon_issues")
+@Table(name = "coupon_issues", uniqueConstraints = @UniqueConstraint(
+        name = CouponIssue.COUPON_USER_UNIQUE_KEY,
+        columnNames = {"coupon_id", "user_id"}
+))
 public class CouponIssue extends BaseTimeEntity {
 
+    public static final String COUPON_USER_UNIQUE_KEY = "uk_coupon_issues_coupon_id_user_id";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
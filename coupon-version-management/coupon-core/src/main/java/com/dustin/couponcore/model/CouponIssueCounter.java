@@ -0,0 +1,42 @@
+package com.dustin.couponcore.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Entity
+@Table(name = "coupon_issue_counters", uniqueConstraints = @UniqueConstraint(
+        name = "uk_coupon_issue_counters_coupon_id_shard_no",
+        columnNames = {"coupon_id", "shard_no"}
+))
+public class CouponIssueCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private int shardNo;
+
+    @Column(nullable = false)
+    private int quota;
+
+    @Column(nullable = false)
+    private int issued;
+
+    // 할당된 수량 안에서 최대 quantity만큼 발급 수량을 증가시키고, 증가시킨 수량을 반환합니다.
+    public int increase(int quantity) {
+        int increased = Math.max(0, Math.min(quantity, quota - issued));
+        issued += increased;
+        return increased;
+    }
+}
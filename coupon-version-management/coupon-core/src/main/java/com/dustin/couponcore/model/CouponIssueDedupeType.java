@@ -0,0 +1,6 @@
+package com.dustin.couponcore.model;
+
+public enum CouponIssueDedupeType {
+    SET, // Redis Set에 유저 ID를 문자열로 저장하여 중복 발급과 발급 수량을 확인
+    BITMAP // Redis Bitmap의 유저 ID 위치 비트와 INCR 카운터로 중복 발급과 발급 수량을 확인 (숫자 유저 ID 전용)
+}
@@ -0,0 +1,16 @@
+package com.dustin.couponcore.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// 엔티티의 ID를 SnowflakeIdGenerator로 JVM 안에서 할당하도록 지정하는 어노테이션입니다.
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface SnowflakeId {
+}
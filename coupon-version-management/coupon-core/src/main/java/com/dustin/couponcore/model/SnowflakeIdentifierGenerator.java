@@ -0,0 +1,28 @@
+package com.dustin.couponcore.model;
+
+import com.dustin.couponcore.util.SnowflakeIdGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+import java.lang.reflect.Member;
+
+// Hibernate가 엔티티를 저장할 때 SnowflakeIdGenerator로 ID를 할당하는 생성기입니다.
+// SnowflakeIdGenerator는 Spring 빈(IdGeneratorConfiguration)이며, Spring Boot가 등록한 Hibernate BeanContainer를 통해 가져옵니다.
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.snowflakeIdGenerator = context.getServiceRegistry()
+                .getService(ManagedBeanRegistry.class)
+                .getBean(SnowflakeIdGenerator.class)
+                .getBeanInstance();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflakeIdGenerator.nextId();
+    }
+}
@@ -0,0 +1,41 @@
+package com.dustin.couponcore.repository.mysql;
+
+import com.dustin.couponcore.model.CouponIssueCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponIssueCounterJpaRepository extends JpaRepository<CouponIssueCounter, Long> {
+
+    long countByCouponId(long couponId);
+
+    @Query("SELECT c.shardNo FROM CouponIssueCounter c WHERE c.couponId = :couponId AND c.issued < c.quota ORDER BY c.shardNo")
+    List<Integer> findAvailableShardNos(long couponId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CouponIssueCounter c WHERE c.couponId = :couponId AND c.shardNo = :shardNo")
+    Optional<CouponIssueCounter> findCounterWithLock(long couponId, int shardNo);
+
+    @Modifying
+    @Query("UPDATE CouponIssueCounter c SET c.issued = c.issued + 1 " +
+            "WHERE c.couponId = :couponId AND c.shardNo = :shardNo AND c.issued < c.quota")
+    int increaseIssued(long couponId, int shardNo);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO coupon_issue_counters (coupon_id, shard_no, quota, issued) " +
+            "VALUES (:couponId, :shardNo, :quota, :issued)", nativeQuery = true)
+    int insertIgnore(long couponId, int shardNo, int quota, int issued);
+
+    @Query("SELECT COALESCE(SUM(c.issued), 0) FROM CouponIssueCounter c WHERE c.couponId = :couponId")
+    long sumIssued(long couponId);
+
+    @Query("SELECT DISTINCT c.couponId FROM CouponIssueCounter c, Coupon p WHERE p.id = c.couponId " +
+            "AND p.issuedQuantity < p.totalQuantity AND p.dateIssueStart <= :now AND p.dateIssueEnd >= :issueEndAfter")
+    List<Long> findIssuingCouponIds(LocalDateTime now, LocalDateTime issueEndAfter);
+}
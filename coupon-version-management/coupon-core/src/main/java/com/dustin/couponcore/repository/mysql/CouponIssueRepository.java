@@ -5,6 +5,9 @@ import com.querydsl.jpa.JPQLQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import static com.dustin.couponcore.model.QCouponIssue.couponIssue;
 
 @RequiredArgsConstructor
@@ -19,4 +22,12 @@ public class CouponIssueRepository {
                 .where(couponIssue.userId.eq(userId))
                 .fetchFirst();
     }
+
+    public List<Long> findIssuedUserIds(long couponId, Collection<Long> userIds) {
+        return queryFactory.select(couponIssue.userId)
+                .from(couponIssue)
+                .where(couponIssue.couponId.eq(couponId))
+                .where(couponIssue.userId.in(userIds))
+                .fetch();
+    }
 }
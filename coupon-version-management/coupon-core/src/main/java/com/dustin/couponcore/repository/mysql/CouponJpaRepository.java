@@ -4,8 +4,11 @@ import com.dustin.couponcore.model.Coupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
@@ -13,4 +16,30 @@ public interface CouponJpaRepository extends JpaRepository<Coupon, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Coupon c WHERE c.id = :id")
     Optional<Coupon> findCouponWithLock(long id);
+
+    // 발급한 뒤에도 남은 수량이 있는 경우에만 발급 수량을 증가시킵니다.
+    @Modifying
+    @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity + 1 " +
+            "WHERE c.id = :id " +
+            "AND (c.totalQuantity IS NULL OR c.issuedQuantity + 1 < c.totalQuantity) " +
+            "AND c.dateIssueStart < :now AND c.dateIssueEnd > :now")
+    int increaseIssuedQuantity(long id, LocalDateTime now);
+
+    // 마지막 남은 수량인 경우에만 발급 수량을 증가시킵니다. 성공하면 발급이 완료됩니다.
+    @Modifying
+    @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity + 1 " +
+            "WHERE c.id = :id " +
+            "AND c.issuedQuantity + 1 = c.totalQuantity " +
+            "AND c.dateIssueStart < :now AND c.dateIssueEnd > :now")
+    int increaseLastIssuedQuantity(long id, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity + :quantity WHERE c.id = :id")
+    int increaseIssuedQuantityBy(long id, int quantity);
+
+    @Query("SELECT c.id FROM Coupon c WHERE c.dateIssueStart < :until AND c.dateIssueEnd > :now")
+    List<Long> findIssuableCouponIds(LocalDateTime now, LocalDateTime until);
+
+    @Query("SELECT c.id FROM Coupon c")
+    List<Long> findAllIds();
 }
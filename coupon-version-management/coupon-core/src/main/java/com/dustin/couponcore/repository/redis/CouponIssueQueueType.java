@@ -0,0 +1,13 @@
+package com.dustin.couponcore.repository.redis;
+
+// 쿠폰 발급 요청 큐의 저장 방식을 정의하는 열거형(enum)입니다.
+public enum CouponIssueQueueType {
+    // Redis List 기반 큐입니다. 하나의 컨슈머만 처리할 수 있습니다.
+    LIST,
+    // Redis Stream 컨슈머 그룹 기반 큐입니다. 여러 컨슈머가 나누어 처리할 수 있습니다.
+    STREAM,
+    // 쿠폰 ID 기준으로 나뉜 여러 Redis List 큐입니다. 쿠폰별 순서를 유지하며 병렬로 처리할 수 있습니다.
+    PARTITIONED,
+    // 쿠폰마다 나뉜 Redis List 큐입니다. 쿠폰의 발급 요청 Set과 같은 해시 태그를 사용하므로 Redis Cluster에서 사용할 수 있습니다.
+    PER_COUPON
+}
@@ -36,11 +36,11 @@ public enum CouponIssueRequestCode {
     public static void checkRequestResult(CouponIssueRequestCode code) {
         // 요청 코드가 유효하지 않은 쿠폰 발급 수량을 나타내면 예외를 발생시킵니다.
         if (code == INVALID_COUPON_ISSUE_QUANTITY) {
-            throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY, "발급 가능한 수량을 초과합니다");
+            throw CouponIssueException.rejected(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY, () -> "발급 가능한 수량을 초과합니다");
         }
         // 요청 코드가 중복된 쿠폰 발급을 나타내면 예외를 발생시킵니다.
         if (code == DUPLICATED_COUPON_ISSUE) {
-            throw new CouponIssueException(ErrorCode.DUPLICATED_COUPON_ISSUE, "이미 발급된 쿠폰입니다.");
+            throw CouponIssueException.rejected(ErrorCode.DUPLICATED_COUPON_ISSUE, () -> "이미 발급된 쿠폰입니다.");
         }
     }
 }
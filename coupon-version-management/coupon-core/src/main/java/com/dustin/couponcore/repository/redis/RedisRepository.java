@@ -1,38 +1,185 @@
 package com.dustin.couponcore.repository.redis;
 
 
+import com.dustin.couponcore.codec.CouponIssueRequestCodec;
+import com.dustin.couponcore.component.CouponIssuePartitioner;
+import com.dustin.couponcore.model.CouponIssueDedupeType;
 import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
 import com.dustin.couponcore.exception.CouponIssueException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.dustin.couponcore.exception.ErrorCode.FAIL_COUPON_ISSUE_REQUEST;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestBitmapKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestCountKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestCouponQueueKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestCouponQueuesKey;
 import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestPartitionQueueKey;
 import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQuotaKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQuotaLeaseExpiresKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQuotaLeasesKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestRateLimitKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestStreamKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestStreamPayloadField;
+import static com.dustin.couponcore.util.CouponRedisUtils.getWaitingRoomAdmissionKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getWaitingRoomAdmittedKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getWaitingRoomKey;
 
 @RequiredArgsConstructor
 @Repository
 public class RedisRepository {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final RedisScript<String> issueScript = issueRequestScript();
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final CouponIssuePartitioner couponIssuePartitioner;
+    private final CouponIssueRequestCodec couponIssueRequestCodec;
+    private final RedisScript<String> issueScript = issueRequestScript(CouponIssueDedupeType.SET, false);
+    private final RedisScript<String> issueStreamScript = issueRequestScript(CouponIssueDedupeType.SET, true);
+    private final RedisScript<String> issueBitmapScript = issueRequestScript(CouponIssueDedupeType.BITMAP, false);
+    private final RedisScript<String> issueBitmapStreamScript = issueRequestScript(CouponIssueDedupeType.BITMAP, true);
+    private final RedisScript<String> groupCreateScript = streamGroupCreateScript();
+    private final RedisScript<Long> trimMinIdScript = streamTrimMinIdScript();
+    private final RedisScript<Long> requeueScript = requeueScript();
+    private final RedisScript<Long> leaseQuotaScript = leaseQuotaScript();
+    private final RedisScript<Long> returnLeaseQuotaScript = returnLeaseQuotaScript();
+    private final RedisScript<Long> rateLimitScript = rateLimitScript();
+    private final RedisScript<Long> waitingRoomEnterScript = waitingRoomEnterScript();
+    private final RedisScript<Long> waitingRoomRankScript = waitingRoomRankScript();
+    private final RedisScript<Long> waitingRoomAdmittedScript = waitingRoomAdmittedScript();
+    private final RedisScript<Long> waitingRoomAdmitScript = waitingRoomAdmitScript();
     private final String issueRequestQueueKey = getIssueRequestQueueKey();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String issueRequestStreamKey = getIssueRequestStreamKey();
+    private final String issueRequestCouponQueuesKey = getIssueRequestCouponQueuesKey();
+    private final String payloadField = getIssueRequestStreamPayloadField();
+
+    private static final long BITMAP_MAX_OFFSET = (1L << 32) - 1;
+
+    // ARGV[3]은 enqueuedAt이 없는 요청이며, Redis 서버 시각을 enqueuedAt으로 추가한 payload를 만듭니다.
+    // JSON 요청은 enqueuedAt 필드를 추가하고, 바이너리 요청은 고정 길이 본문 뒤에 10진수로 붙입니다.
+    // 여러 API 서버의 시계 차이와 무관하게 같은 기준으로 대기 시간을 측정할 수 있습니다.
+    private static final String ISSUE_REQUEST_PAYLOAD_SCRIPT = """
+                local time = redis.call('TIME')
+                local enqueuedAt = string.format('%.0f', time[1] * 1000 + math.floor(time[2] / 1000))
+                local payload = ARGV[3] .. enqueuedAt
+                if string.sub(ARGV[3], 1, 1) == '{' then
+                    payload = string.sub(ARGV[3], 1, -2) .. ',"enqueuedAt":' .. enqueuedAt .. '}'
+                end""";
+
+    // ARGV[5]가 있으면 마지막 KEYS는 lease별 사용하지 않은 수량을 저장하는 Hash이며, 저장한 요청만큼 lease의 수량을 줄입니다.
+    // 이미 되돌려진 lease이면 기록을 다시 만들지 않습니다.
+    private static final String ISSUE_REQUEST_LEASE_SCRIPT = """
+                if ARGV[5] and redis.call('HEXISTS', KEYS[#KEYS], ARGV[5]) == 1 then
+                    redis.call('HINCRBY', KEYS[#KEYS], ARGV[5], -1)
+                end""";
+
+    public static final long WAITING_ROOM_ADMITTED = -1;
+
+    public static final long WAITING_ROOM_NOT_ENTERED = -2;
+
+    @Value("${coupon.queue.type:list}")
+    private CouponIssueQueueType queueType;
 
     public Boolean zAdd(String key, String value, double score) {
         return redisTemplate.opsForZSet().addIfAbsent(key, value, score);
     }
 
+    public Boolean zAddOrUpdate(String key, String value, double score) {
+        return redisTemplate.opsForZSet().add(key, value, score);
+    }
+
+    public Set<String> zRangeByScore(String key, double min, double max, long count) {
+        return redisTemplate.opsForZSet().rangeByScore(key, min, max, 0, count);
+    }
+
+    public Long zRem(String key, String value) {
+        return redisTemplate.opsForZSet().remove(key, value);
+    }
+
+    public Long zCard(String key) {
+        return redisTemplate.opsForZSet().zCard(key);
+    }
+
+    public Double zScore(String key, String value) {
+        return redisTemplate.opsForZSet().score(key, value);
+    }
+
+    public Long incr(String key, Duration ttl) {
+        Long value = redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, ttl);
+        return value;
+    }
+
+    public Long incr(String key) {
+        return redisTemplate.opsForValue().increment(key);
+    }
+
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    public Boolean setBit(String key, long offset, boolean value) {
+        return redisTemplate.opsForValue().setBit(key, offset, value);
+    }
+
+    public Boolean getBit(String key, long offset) {
+        return redisTemplate.opsForValue().getBit(key, offset);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    public Boolean delete(String key) {
+        return redisTemplate.delete(key);
+    }
+
     public Long sAdd(String key, String value) {
         return redisTemplate.opsForSet().add(key, value);
     }
 
+    public Long sRem(String key, String value) {
+        return redisTemplate.opsForSet().remove(key, value);
+    }
+
+    public Set<String> sMembers(String key) {
+        return redisTemplate.opsForSet().members(key);
+    }
+
+    public void set(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    public Boolean hasKey(String key) {
+        return redisTemplate.hasKey(key);
+    }
+
     public Long sCard(String key) {
         return redisTemplate.opsForSet().size(key);
     }
@@ -49,6 +196,31 @@ public class RedisRepository {
         return redisTemplate.opsForList().index(key, index);
     }
 
+    public List<String> lRange(String key, long start, long end) {
+        return redisTemplate.opsForList().range(key, start, end);
+    }
+
+    public void lTrim(String key, long start, long end) {
+        redisTemplate.opsForList().trim(key, start, end);
+    }
+
+    public String bLMove(String sourceKey, String destinationKey, Duration timeout) {
+        return redisTemplate.opsForList().move(
+                sourceKey, RedisListCommands.Direction.LEFT,
+                destinationKey, RedisListCommands.Direction.RIGHT,
+                timeout
+        );
+    }
+
+    public Long lRem(String key, long count, String value) {
+        return redisTemplate.opsForList().remove(key, count, value);
+    }
+
+    // source 리스트의 모든 요청을 순서를 유지한 채 destination 리스트의 앞쪽으로 되돌립니다.
+    public Long requeue(String sourceKey, String destinationKey) {
+        return redisTemplate.execute(requeueScript, List.of(sourceKey, destinationKey));
+    }
+
     public String lPop(String key) {
         return redisTemplate.opsForList().leftPop(key);
     }
@@ -57,37 +229,636 @@ public class RedisRepository {
         return redisTemplate.opsForList().size(key);
     }
 
+    public RecordId xAdd(String key, String field, String value) {
+        return redisTemplate.opsForStream().add(key, Map.of(field, value));
+    }
+
+    public void xGroupCreate(String key, String group) {
+        redisTemplate.execute(groupCreateScript, List.of(key), group);
+    }
+
+    public List<MapRecord<String, Object, Object>> xReadGroup(String key, String group, String consumer, long count, Duration block) {
+        return redisTemplate.opsForStream().read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count).block(block),
+                StreamOffset.create(key, ReadOffset.lastConsumed())
+        );
+    }
+
+    public Long xAck(String key, String group, RecordId... recordIds) {
+        return redisTemplate.opsForStream().acknowledge(key, group, recordIds);
+    }
+
+    public PendingMessages xPending(String key, String group, long count) {
+        return redisTemplate.opsForStream().pending(key, group, Range.unbounded(), count);
+    }
+
+    public PendingMessagesSummary xPendingSummary(String key, String group) {
+        return redisTemplate.opsForStream().pending(key, group);
+    }
+
+    public List<MapRecord<String, Object, Object>> xClaim(String key, String group, String consumer, Duration minIdle, RecordId... recordIds) {
+        return redisTemplate.opsForStream().claim(key, group, consumer, minIdle, recordIds);
+    }
+
+    public StreamInfo.XInfoGroups xInfoGroups(String key) {
+        return redisTemplate.opsForStream().groups(key);
+    }
+
+    public Long xTrimMinId(String key, RecordId minId) {
+        return redisTemplate.execute(trimMinIdScript, List.of(key), minId.getValue());
+    }
+
+    // 설정된 큐 타입에 맞게 발급 요청을 큐에 추가합니다.
+    public void pushIssueRequest(long couponId, String value) {
+        if (queueType == CouponIssueQueueType.STREAM) {
+            xAdd(issueRequestStreamKey, payloadField, value);
+            return;
+        }
+        rPush(getIssueRequestListKey(couponId), value);
+        registerCouponQueue(couponId);
+    }
+
+    // 설정된 큐 타입에 맞게 아직 처리되지 않은 발급 요청 수를 반환합니다.
+    // stream 타입은 trim 되기 전까지 처리가 끝난 요청도 포함합니다.
+    public long issueRequestQueueSize() {
+        Long size = switch (queueType) {
+            case STREAM -> redisTemplate.opsForStream().size(issueRequestStreamKey);
+            case PARTITIONED -> {
+                long total = 0;
+                for (int partition = 0; partition < couponIssuePartitioner.getPartitionCount(); partition++) {
+                    Long partitionSize = lSize(getIssueRequestPartitionQueueKey(partition));
+                    total += partitionSize == null ? 0 : partitionSize;
+                }
+                yield total;
+            }
+            case PER_COUPON -> {
+                long total = 0;
+                for (String couponId : issueRequestCouponIds()) {
+                    Long couponQueueSize = lSize(getIssueRequestCouponQueueKey(Long.parseLong(couponId)));
+                    total += couponQueueSize == null ? 0 : couponQueueSize;
+                }
+                yield total;
+            }
+            case LIST -> lSize(issueRequestQueueKey);
+        };
+        return size == null ? 0 : size;
+    }
+
+    // per-coupon 큐 타입에서 쿠폰별 큐가 생성된 쿠폰 ID 목록을 반환합니다.
+    public Set<String> issueRequestCouponIds() {
+        Set<String> couponIds = sMembers(issueRequestCouponQueuesKey);
+        return couponIds == null ? Set.of() : couponIds;
+    }
+
+    // 쿠폰별 큐가 비어 있으면 쿠폰 ID를 큐 목록에서 제거합니다.
+    // 발급 요청은 큐에 추가한 뒤 목록에 등록하므로, 제거한 뒤 큐를 다시 확인하여 그 사이 추가된 요청이 있으면 다시 등록합니다.
+    public void unregisterCouponQueueIfEmpty(long couponId) {
+        String key = getIssueRequestCouponQueueKey(couponId);
+        if (!isEmpty(lSize(key))) {
+            return;
+        }
+        sRem(issueRequestCouponQueuesKey, String.valueOf(couponId));
+        if (!isEmpty(lSize(key))) {
+            sAdd(issueRequestCouponQueuesKey, String.valueOf(couponId));
+        }
+    }
+
+    private boolean isEmpty(Long size) {
+        return size == null || size == 0;
+    }
+
+    // 리스트 기반 큐 타입에서 쿠폰 발급 요청이 저장될 리스트의 키를 반환합니다.
+    private String getIssueRequestListKey(long couponId) {
+        return switch (queueType) {
+            case PARTITIONED -> getIssueRequestPartitionQueueKey(couponIssuePartitioner.partition(couponId));
+            case PER_COUPON -> getIssueRequestCouponQueueKey(couponId);
+            default -> issueRequestQueueKey;
+        };
+    }
+
+    // 컨슈머가 쿠폰별 큐를 찾을 수 있도록 쿠폰 ID를 등록합니다.
+    // 쿠폰별 키와 다른 슬롯에 저장되므로 발급 요청 스크립트와 별도로 실행합니다.
+    private void registerCouponQueue(long couponId) {
+        if (queueType == CouponIssueQueueType.PER_COUPON) {
+            sAdd(issueRequestCouponQueuesKey, String.valueOf(couponId));
+        }
+    }
+
+    private Mono<Void> registerCouponQueueReactive(long couponId) {
+        if (queueType != CouponIssueQueueType.PER_COUPON) {
+            return Mono.empty();
+        }
+        return reactiveRedisTemplate.opsForSet().add(issueRequestCouponQueuesKey, String.valueOf(couponId)).then();
+    }
+
     public void issueRequest(long couponId, long userId, int totalIssueQuantity) {
-        String issueRequestKey = getIssueRequestKey(couponId);
+        issueRequest(couponId, userId, totalIssueQuantity, CouponIssueDedupeType.SET);
+    }
+
+    public void issueRequest(long couponId, long userId, int totalIssueQuantity, CouponIssueDedupeType dedupeType) {
+        issueRequest(couponId, userId, totalIssueQuantity, dedupeType, null);
+    }
+
+    // 쿠폰에 설정된 중복 확인 방식에 맞는 스크립트로 발급 요청을 저장합니다.
+    // SET: 발급 요청 Set의 SISMEMBER/SCARD, BITMAP: 유저 ID 위치의 비트와 발급 요청 카운터
+    // leaseId가 있으면 요청을 저장할 때 같은 스크립트에서 해당 lease의 사용하지 않은 수량을 하나 줄입니다.
+    // Redis Cluster에서는 스크립트의 모든 키가 같은 슬롯에 있어야 하므로 per-coupon 큐 타입을 사용해야 합니다.
+    public void issueRequest(long couponId, long userId, int totalIssueQuantity, CouponIssueDedupeType dedupeType, String leaseId) {
+        boolean stream = queueType == CouponIssueQueueType.STREAM;
+        String queueKey = stream ? issueRequestStreamKey : getIssueRequestListKey(couponId);
         CouponIssueRequest couponIssueRequest = new CouponIssueRequest(couponId, userId);
         try {
+            String payload = couponIssueRequestCodec.encode(couponIssueRequest);
+            if (dedupeType == CouponIssueDedupeType.BITMAP) {
+                checkBitmapOffset(couponId, userId);
+            }
+            List<String> keys = getIssueRequestScriptKeys(couponId, dedupeType, queueKey);
+            List<String> args = new ArrayList<>(List.of(String.valueOf(userId), String.valueOf(totalIssueQuantity), payload, payloadField));
+            if (leaseId != null) {
+                keys = new ArrayList<>(keys);
+                keys.add(getIssueRequestQuotaLeasesKey(couponId));
+                args.add(leaseId);
+            }
             String code = redisTemplate.execute(
-                    issueScript,
-                    List.of(issueRequestKey, issueRequestQueueKey),
-                    String.valueOf(userId),
-                    String.valueOf(totalIssueQuantity),
-                    objectMapper.writeValueAsString(couponIssueRequest)
-            );
+                    selectIssueRequestScript(dedupeType, stream),
+                    keys,
+                    args.toArray());
             CouponIssueRequestCode.checkRequestResult(CouponIssueRequestCode.find(code));
-        } catch (JsonProcessingException e) {
+            registerCouponQueue(couponId);
+        } catch (IllegalArgumentException e) {
             throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(couponIssueRequest));
         }
     }
 
-    private RedisScript<String> issueRequestScript() {
+    // issueRequest와 같은 스크립트를 ReactiveRedisTemplate으로 실행합니다.
+    // 스크립트 응답을 기다리는 동안 호출한 스레드를 점유하지 않으며, 결과 코드에 따른 예외는 Mono의 error로 전달됩니다.
+    public Mono<Void> issueRequestReactive(long couponId, long userId, int totalIssueQuantity, CouponIssueDedupeType dedupeType) {
+        CouponIssueRequest couponIssueRequest = new CouponIssueRequest(couponId, userId);
+        return Mono.defer(() -> {
+            boolean stream = queueType == CouponIssueQueueType.STREAM;
+            String queueKey = stream ? issueRequestStreamKey : getIssueRequestListKey(couponId);
+            String payload = couponIssueRequestCodec.encode(couponIssueRequest);
+            if (dedupeType == CouponIssueDedupeType.BITMAP) {
+                checkBitmapOffset(couponId, userId);
+            }
+            return reactiveRedisTemplate.execute(
+                            selectIssueRequestScript(dedupeType, stream),
+                            getIssueRequestScriptKeys(couponId, dedupeType, queueKey),
+                            List.of(String.valueOf(userId), String.valueOf(totalIssueQuantity), payload, payloadField))
+                    .next()
+                    .doOnNext(code -> CouponIssueRequestCode.checkRequestResult(CouponIssueRequestCode.find(code)))
+                    .then(registerCouponQueueReactive(couponId));
+        }).onErrorMap(IllegalArgumentException.class,
+                e -> new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(couponIssueRequest)));
+    }
+
+    // 중복 확인 방식과 큐 타입에 맞는 발급 요청 스크립트를 반환합니다.
+    private RedisScript<String> selectIssueRequestScript(CouponIssueDedupeType dedupeType, boolean stream) {
+        if (dedupeType == CouponIssueDedupeType.BITMAP) {
+            return stream ? issueBitmapStreamScript : issueBitmapScript;
+        }
+        return stream ? issueStreamScript : issueScript;
+    }
+
+    // 발급 요청 스크립트의 KEYS입니다. SET: [Set, 큐], BITMAP: [Bitmap, 큐, 카운터]
+    private List<String> getIssueRequestScriptKeys(long couponId, CouponIssueDedupeType dedupeType, String queueKey) {
+        if (dedupeType == CouponIssueDedupeType.BITMAP) {
+            return List.of(getIssueRequestBitmapKey(couponId), queueKey, getIssueRequestCountKey(couponId));
+        }
+        return List.of(getIssueRequestKey(couponId), queueKey);
+    }
+
+    // 남은 발급 수량에서 최대 blockSize 만큼을 가져오고, 가져온 수량을 반환합니다. 남은 수량이 없으면 0을 반환합니다.
+    // 가져온 수량은 leaseId로 Redis에 기록되며, leaseTtlMs가 지나도록 되돌려지지 않은 lease(종료된 서버의 lease)는
+    // 다음 lease 요청 시 사용하지 않은 수량을 남은 발급 수량에 되돌립니다.
+    public long leaseQuota(long couponId, int totalIssueQuantity, int blockSize, String leaseId, long leaseTtlMs) {
+        Long leased = redisTemplate.execute(
+                leaseQuotaScript,
+                List.of(getIssueRequestQuotaKey(couponId), getIssueRequestKey(couponId), getIssueRequestCountKey(couponId),
+                        getIssueRequestQuotaLeasesKey(couponId), getIssueRequestQuotaLeaseExpiresKey(couponId)),
+                String.valueOf(totalIssueQuantity),
+                String.valueOf(blockSize),
+                leaseId,
+                String.valueOf(leaseTtlMs));
+        return leased == null ? 0 : leased;
+    }
+
+    // lease의 기록을 제거하고 사용하지 않은 수량을 남은 발급 수량에 되돌립니다.
+    // 이미 만료되어 다른 서버가 되돌린 lease이면 다시 되돌리지 않습니다.
+    public void returnLeaseQuota(long couponId, String leaseId, long quantity) {
+        redisTemplate.execute(
+                returnLeaseQuotaScript,
+                List.of(getIssueRequestQuotaKey(couponId), getIssueRequestQuotaLeasesKey(couponId),
+                        getIssueRequestQuotaLeaseExpiresKey(couponId)),
+                leaseId,
+                String.valueOf(quantity));
+    }
+
+    // 쿠폰별 token bucket에서 토큰 하나를 가져옵니다. 토큰이 없으면 false를 반환합니다.
+    // 토큰은 Redis 서버 시각을 기준으로 초당 refillPerSecond 개씩 capacity까지 채워지므로 모든 API 서버가 같은 bucket을 사용합니다.
+    public boolean tryAcquireIssueRequestRateLimit(long couponId, long capacity, double refillPerSecond) {
+        long ttlMs = (long) Math.ceil(capacity / refillPerSecond * 1000) + 1000;
+        Long allowed = redisTemplate.execute(
+                rateLimitScript,
+                List.of(getIssueRequestRateLimitKey(couponId)),
+                String.valueOf(capacity),
+                String.valueOf(refillPerSecond),
+                String.valueOf(ttlMs));
+        return allowed != null && allowed == 1;
+    }
+
+    // 유저를 쿠폰의 대기열에 추가합니다. 이미 대기 중이면 처음 입장한 순서를 유지합니다.
+    // 여러 API 서버의 시각이 어긋나도 도착 순서가 뒤바뀌지 않도록 Redis 서버 시각을 점수로 사용합니다.
+    public void enterWaitingRoom(long couponId, long userId) {
+        redisTemplate.execute(waitingRoomEnterScript, List.of(getWaitingRoomKey(couponId)), String.valueOf(userId));
+    }
+
+    // 대기열에서 유저의 순서(0부터 시작)를 한 번의 요청으로 확인합니다.
+    // 입장이 허용된 상태면 WAITING_ROOM_ADMITTED, 대기열에 없으면 WAITING_ROOM_NOT_ENTERED를 반환합니다.
+    public long waitingRoomRank(long couponId, long userId) {
+        Long rank = redisTemplate.execute(
+                waitingRoomRankScript,
+                List.of(getWaitingRoomKey(couponId), getWaitingRoomAdmittedKey(couponId)),
+                String.valueOf(userId));
+        return rank == null ? WAITING_ROOM_NOT_ENTERED : rank;
+    }
+
+    // 유저의 입장 허용이 만료되지 않았는지 확인합니다.
+    // 만료 시각은 Redis 서버 시각으로 저장되므로 API 서버의 시각이 아닌 Redis 서버 시각과 비교합니다.
+    public boolean isWaitingRoomAdmitted(long couponId, long userId) {
+        Long admitted = redisTemplate.execute(
+                waitingRoomAdmittedScript,
+                List.of(getWaitingRoomAdmittedKey(couponId)),
+                String.valueOf(userId));
+        return admitted != null && admitted == 1;
+    }
+
+    public Mono<Boolean> isWaitingRoomAdmittedReactive(long couponId, long userId) {
+        return reactiveRedisTemplate.execute(
+                        waitingRoomAdmittedScript,
+                        List.of(getWaitingRoomAdmittedKey(couponId)),
+                        List.of(String.valueOf(userId)))
+                .next()
+                .map(admitted -> admitted == 1)
+                .defaultIfEmpty(false);
+    }
+
+    // 대기열의 앞에서부터 유저의 입장을 허용하고, 허용한 유저 수를 반환합니다.
+    // 허용하는 수는 마지막 허용 시각 이후 경과한 시간 * admissionPerSecond (최대 maxBatchSize)이므로,
+    // 여러 서버가 동시에 호출해도 쿠폰별 허용 속도는 admissionPerSecond를 넘지 않습니다.
+    public long admitWaitingRoom(long couponId, double admissionPerSecond, long maxBatchSize, long admittedTtlMs) {
+        Long admitted = redisTemplate.execute(
+                waitingRoomAdmitScript,
+                List.of(getWaitingRoomKey(couponId), getWaitingRoomAdmittedKey(couponId), getWaitingRoomAdmissionKey(couponId)),
+                String.valueOf(admissionPerSecond),
+                String.valueOf(maxBatchSize),
+                String.valueOf(admittedTtlMs));
+        return admitted == null ? 0 : admitted;
+    }
+
+    public long waitingRoomSize(long couponId) {
+        Long size = zCard(getWaitingRoomKey(couponId));
+        return size == null ? 0 : size;
+    }
+
+    // 사용하지 않은 발급 수량을 남은 발급 수량에 되돌립니다.
+    public void returnQuota(long couponId, long quantity) {
+        redisTemplate.opsForValue().increment(getIssueRequestQuotaKey(couponId), quantity);
+    }
+
+    // 같은 쿠폰의 여러 발급 요청을 두 번의 파이프라인으로 저장하고, 요청마다 결과 코드를 반환합니다.
+    // 첫 번째 파이프라인에서 중복 여부와 발급 요청 수를 조회하고, 두 번째 파이프라인에서 허용된 요청만 저장합니다.
+    // 조회와 저장 사이에 다른 요청이 끼어들지 않도록 쿠폰의 분산 락 안에서 호출해야 합니다.
+    public List<CouponIssueRequestCode> issueRequestBatch(long couponId, List<Long> userIds, List<String> payloads,
+                                                          int totalIssueQuantity, CouponIssueDedupeType dedupeType) {
+        boolean bitmap = dedupeType == CouponIssueDedupeType.BITMAP;
+        String dedupeKey = bitmap ? getIssueRequestBitmapKey(couponId) : getIssueRequestKey(couponId);
+        String countKey = getIssueRequestCountKey(couponId);
+
+        List<Object> checks = executePipelined(operations -> {
+            if (bitmap) {
+                operations.opsForValue().get(countKey);
+                userIds.forEach(userId -> operations.opsForValue().getBit(dedupeKey, userId));
+            } else {
+                operations.opsForSet().size(dedupeKey);
+                userIds.forEach(userId -> operations.opsForSet().isMember(dedupeKey, String.valueOf(userId)));
+            }
+        });
+
+        Object count = checks.get(0);
+        long issued = count == null ? 0 : Long.parseLong(count.toString());
+        List<CouponIssueRequestCode> codes = new ArrayList<>(userIds.size());
+        List<Long> acceptedUserIds = new ArrayList<>();
+        List<String> acceptedPayloads = new ArrayList<>();
+        Set<Long> requested = new HashSet<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            long userId = userIds.get(i);
+            if (Boolean.TRUE.equals(checks.get(i + 1)) || !requested.add(userId)) {
+                codes.add(CouponIssueRequestCode.DUPLICATED_COUPON_ISSUE);
+            } else if (issued < totalIssueQuantity) {
+                issued++;
+                codes.add(CouponIssueRequestCode.SUCCESS);
+                acceptedUserIds.add(userId);
+                acceptedPayloads.add(payloads.get(i));
+            } else {
+                codes.add(CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY);
+            }
+        }
+        if (acceptedUserIds.isEmpty()) {
+            return codes;
+        }
+
+        executePipelined(operations -> {
+            if (bitmap) {
+                acceptedUserIds.forEach(userId -> operations.opsForValue().setBit(dedupeKey, userId, true));
+                operations.opsForValue().increment(countKey, acceptedUserIds.size());
+            } else {
+                operations.opsForSet().add(dedupeKey, acceptedUserIds.stream().map(String::valueOf).toArray(String[]::new));
+            }
+            if (queueType == CouponIssueQueueType.STREAM) {
+                acceptedPayloads.forEach(payload -> operations.opsForStream().add(issueRequestStreamKey, Map.of(payloadField, payload)));
+            } else {
+                operations.opsForList().rightPushAll(getIssueRequestListKey(couponId), acceptedPayloads);
+            }
+        });
+        registerCouponQueue(couponId);
+        return codes;
+    }
+
+    // Bitmap 방식에서 사용할 수 없는 유저 ID이면 예외를 던집니다.
+    public void checkIssueRequestUserId(long couponId, long userId, CouponIssueDedupeType dedupeType) {
+        if (dedupeType == CouponIssueDedupeType.BITMAP) {
+            checkBitmapOffset(couponId, userId);
+        }
+    }
+
+    // 유저의 발급 요청이 이미 저장되어 있는지 확인합니다.
+    public boolean isIssueRequested(long couponId, long userId, CouponIssueDedupeType dedupeType) {
+        if (dedupeType == CouponIssueDedupeType.BITMAP) {
+            checkBitmapOffset(couponId, userId);
+            return Boolean.TRUE.equals(getBit(getIssueRequestBitmapKey(couponId), userId));
+        }
+        return Boolean.TRUE.equals(sIsMember(getIssueRequestKey(couponId), String.valueOf(userId)));
+    }
+
+    // 저장된 발급 요청 수를 반환합니다.
+    public long issueRequestCount(long couponId, CouponIssueDedupeType dedupeType) {
+        if (dedupeType == CouponIssueDedupeType.BITMAP) {
+            String count = get(getIssueRequestCountKey(couponId));
+            return count == null ? 0 : Long.parseLong(count);
+        }
+        Long size = sCard(getIssueRequestKey(couponId));
+        return size == null ? 0 : size;
+    }
+
+    // 유저의 발급 요청을 중복 확인용 자료구조에 저장합니다.
+    public void addIssueRequest(long couponId, long userId, CouponIssueDedupeType dedupeType) {
+        if (dedupeType == CouponIssueDedupeType.BITMAP) {
+            checkBitmapOffset(couponId, userId);
+            if (!Boolean.TRUE.equals(setBit(getIssueRequestBitmapKey(couponId), userId, true))) {
+                incr(getIssueRequestCountKey(couponId));
+            }
+            return;
+        }
+        sAdd(getIssueRequestKey(couponId), String.valueOf(userId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> executePipelined(java.util.function.Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    // Redis Bitmap의 offset은 0 이상 2^32 미만이어야 합니다.
+    private void checkBitmapOffset(long couponId, long userId) {
+        if (userId < 0 || userId > BITMAP_MAX_OFFSET) {
+            throw new CouponIssueException(FAIL_COUPON_ISSUE_REQUEST,
+                    "bitmap 방식에서 사용할 수 없는 유저 ID입니다. couponId: %s, userId: %s".formatted(couponId, userId));
+        }
+    }
+
+    // 발급 요청 스크립트를 중복 확인 방식과 큐 타입에 맞게 조합합니다.
+    // 요청 저장 순서(중복 확인 -> 수량 확인 -> enqueuedAt 추가 -> 저장)와 결과 코드는 모든 조합이 같고,
+    // 중복 확인과 저장, 큐에 추가하는 명령만 다릅니다.
+    // SET: KEYS[1]은 발급 요청 Set입니다.
+    // BITMAP: KEYS[1]은 유저 ID 위치에 비트를 설정하는 Bitmap, KEYS[3]은 발급 요청 수를 세는 카운터입니다.
+    // 1,000만 명 범위의 유저 ID도 약 1.2MB의 Bitmap으로 중복을 확인할 수 있습니다.
+    private RedisScript<String> issueRequestScript(CouponIssueDedupeType dedupeType, boolean stream) {
+        boolean bitmap = dedupeType == CouponIssueDedupeType.BITMAP;
         String script = """
-                if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                if %s == 1 then
                     return '2'
                 end
-                                
-                if tonumber(ARGV[2]) > redis.call('SCARD', KEYS[1]) then
-                    redis.call('SADD', KEYS[1], ARGV[1])
-                    redis.call('RPUSH', KEYS[2], ARGV[3])
+
+                if tonumber(ARGV[2]) > %s then
+                %s
+                    %s
+                    %s
+                %s
                     return '1'
                 end
-                                
+
                 return '3'
+                """.formatted(
+                bitmap ? "redis.call('GETBIT', KEYS[1], ARGV[1])" : "redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+                bitmap ? "tonumber(redis.call('GET', KEYS[3]) or '0')" : "redis.call('SCARD', KEYS[1])",
+                ISSUE_REQUEST_PAYLOAD_SCRIPT,
+                bitmap ? "redis.call('SETBIT', KEYS[1], ARGV[1], 1)\n    redis.call('INCR', KEYS[3])" : "redis.call('SADD', KEYS[1], ARGV[1])",
+                stream ? "redis.call('XADD', KEYS[2], '*', ARGV[4], payload)" : "redis.call('RPUSH', KEYS[2], payload)",
+                ISSUE_REQUEST_LEASE_SCRIPT);
+        return RedisScript.of(script, String.class);
+    }
+
+    private RedisScript<String> streamGroupCreateScript() {
+        // 이미 그룹이 존재하는 경우(BUSYGROUP)는 무시합니다.
+        String script = """
+                redis.pcall('XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM')
+                return 'OK'
                 """;
         return RedisScript.of(script, String.class);
     }
+
+    private RedisScript<Long> streamTrimMinIdScript() {
+        String script = """
+                return redis.call('XTRIM', KEYS[1], 'MINID', '~', ARGV[1])
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    // KEYS[1]은 남은 발급 수량, KEYS[4]는 lease별 사용하지 않은 수량(Hash), KEYS[5]는 lease별 만료 시각(ZSET)입니다.
+    // 먼저 만료 시각(Redis 서버 시각 기준)이 지난 lease의 사용하지 않은 수량을 KEYS[1]에 되돌립니다.
+    // KEYS[1]이 없으면 최대 수량에서 이미 저장된 발급 요청 수(Set의 SCARD 또는 Bitmap 카운터)를 뺀 값으로 초기화합니다.
+    // 남은 수량에서 ARGV[2]만큼(남은 수량이 더 적으면 남은 수량만큼) DECRBY 하고, ARGV[3] lease로 기록한 뒤 가져온 수량을 반환합니다.
+    private RedisScript<Long> leaseQuotaScript() {
+        String script = """
+                local time = redis.call('TIME')
+                local now = time[1] * 1000 + math.floor(time[2] / 1000)
+                for _, expired in ipairs(redis.call('ZRANGEBYSCORE', KEYS[5], '-inf', now)) do
+                    local unused = tonumber(redis.call('HGET', KEYS[4], expired) or '0')
+                    if unused > 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+                        redis.call('INCRBY', KEYS[1], unused)
+                    end
+                    redis.call('HDEL', KEYS[4], expired)
+                    redis.call('ZREM', KEYS[5], expired)
+                end
+
+                local remaining = redis.call('GET', KEYS[1])
+                if remaining then
+                    remaining = tonumber(remaining)
+                else
+                    local issued = redis.call('SCARD', KEYS[2]) + tonumber(redis.call('GET', KEYS[3]) or '0')
+                    remaining = tonumber(ARGV[1]) - issued
+                    redis.call('SET', KEYS[1], remaining)
+                end
+
+                if remaining <= 0 then
+                    return 0
+                end
+
+                local lease = math.min(tonumber(ARGV[2]), remaining)
+                redis.call('DECRBY', KEYS[1], lease)
+                redis.call('HSET', KEYS[4], ARGV[3], lease)
+                redis.call('ZADD', KEYS[5], now + tonumber(ARGV[4]), ARGV[3])
+                return lease
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    // KEYS[1]은 남은 발급 수량, KEYS[2]는 lease별 사용하지 않은 수량(Hash), KEYS[3]은 lease별 만료 시각(ZSET)입니다.
+    // ARGV[1] lease가 아직 기록되어 있으면 기록을 제거하고 ARGV[2]만큼 KEYS[1]에 되돌립니다.
+    private RedisScript<Long> returnLeaseQuotaScript() {
+        String script = """
+                if redis.call('ZREM', KEYS[3], ARGV[1]) == 0 then
+                    return 0
+                end
+                redis.call('HDEL', KEYS[2], ARGV[1])
+                local quantity = tonumber(ARGV[2])
+                if quantity > 0 then
+                    redis.call('INCRBY', KEYS[1], quantity)
+                end
+                return quantity
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    // KEYS[1]은 tokens(남은 토큰 수)와 ts(마지막으로 토큰을 채운 시각)를 저장하는 Hash입니다.
+    // 마지막 요청 이후 경과한 시간만큼 토큰을 채운 뒤 하나를 사용하고, 사용했으면 1을 반환합니다.
+    private RedisScript<Long> rateLimitScript() {
+        String script = """
+                local time = redis.call('TIME')
+                local now = time[1] * 1000 + math.floor(time[2] / 1000)
+                local capacity = tonumber(ARGV[1])
+                local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+                local tokens = tonumber(bucket[1]) or capacity
+                local ts = tonumber(bucket[2]) or now
+                tokens = math.min(capacity, tokens + math.max(0, now - ts) * tonumber(ARGV[2]) / 1000)
+
+                local allowed = 0
+                if tokens >= 1 then
+                    tokens = tokens - 1
+                    allowed = 1
+                end
+                redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', string.format('%.0f', now))
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+                return allowed
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    // KEYS[1]은 대기열입니다. 유저가 없으면 Redis 서버 시각(ms)을 점수로 추가하고, 이미 있으면 점수를 유지합니다.
+    private RedisScript<Long> waitingRoomEnterScript() {
+        String script = """
+                local time = redis.call('TIME')
+                local now = time[1] * 1000 + math.floor(time[2] / 1000)
+                return redis.call('ZADD', KEYS[1], 'NX', now, ARGV[1])
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    // KEYS[1]은 입장이 허용된 유저와 만료 시각입니다. 만료 시각이 Redis 서버 시각보다 뒤면 1, 아니면 0을 반환합니다.
+    private RedisScript<Long> waitingRoomAdmittedScript() {
+        String script = """
+                local time = redis.call('TIME')
+                local now = time[1] * 1000 + math.floor(time[2] / 1000)
+                local expiresAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+                if expiresAt and tonumber(expiresAt) > now then
+                    return 1
+                end
+                return 0
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    // KEYS[1]은 대기열, KEYS[2]는 입장이 허용된 유저와 만료 시각입니다.
+    // 입장이 허용된 상태면 -1, 대기열에 없으면 -2, 대기 중이면 순서(ZRANK)를 반환합니다.
+    private RedisScript<Long> waitingRoomRankScript() {
+        String script = """
+                local time = redis.call('TIME')
+                local now = time[1] * 1000 + math.floor(time[2] / 1000)
+                local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+                if expiresAt and tonumber(expiresAt) > now then
+                    return -1
+                end
+                local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+                if rank then
+                    return rank
+                end
+                return -2
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    // KEYS[1]은 대기열, KEYS[2]는 입장이 허용된 유저와 만료 시각, KEYS[3]은 마지막으로 입장을 허용한 시각입니다.
+    // 경과한 시간만큼 입장 가능한 수를 계산해 대기열 앞에서부터 꺼내고(ZPOPMIN), 만료 시각과 함께 KEYS[2]에 추가합니다.
+    // 대기열이 비어 있던 시간이나 max batch size를 넘는 수는 누적하지 않으므로, 한 번에 많은 유저가 입장하지 않습니다.
+    private RedisScript<Long> waitingRoomAdmitScript() {
+        String script = """
+                local time = redis.call('TIME')
+                local now = time[1] * 1000 + math.floor(time[2] / 1000)
+                local rate = tonumber(ARGV[1])
+                local ttl = tonumber(ARGV[3])
+                redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+
+                local last = tonumber(redis.call('GET', KEYS[3]) or (now - 1000))
+                local permits = math.floor((now - last) * rate / 1000)
+                if permits < 1 then
+                    return 0
+                end
+
+                local popped = redis.call('ZPOPMIN', KEYS[1], math.min(permits, tonumber(ARGV[2])))
+                local count = #popped / 2
+                for i = 1, #popped, 2 do
+                    redis.call('ZADD', KEYS[2], now + ttl, popped[i])
+                end
+                if count > 0 then
+                    redis.call('PEXPIRE', KEYS[2], ttl)
+                end
+
+                if count < permits then
+                    last = now
+                else
+                    last = last + count * 1000 / rate
+                end
+                redis.call('SET', KEYS[3], string.format('%.3f', last), 'PX', 86400000)
+                return count
+                """;
+        return RedisScript.of(script, Long.class);
+    }
+
+    private RedisScript<Long> requeueScript() {
+        String script = """
+                local count = 0
+                while redis.call('LMOVE', KEYS[1], KEYS[2], 'RIGHT', 'LEFT') do
+                    count = count + 1
+                end
+                return count
+                """;
+        return RedisScript.of(script, Long.class);
+    }
 }
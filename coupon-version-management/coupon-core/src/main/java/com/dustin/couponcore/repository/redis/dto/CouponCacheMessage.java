@@ -0,0 +1,23 @@
+package com.dustin.couponcore.repository.redis.dto;
+
+// 서버 간 로컬 캐시를 동기화하기 위해 Redis pub/sub으로 전달하는 메시지입니다.
+// UPDATE는 coupon의 값으로 로컬 캐시를 갱신하고, EVICT는 로컬 캐시에서 쿠폰을 제거합니다.
+public record CouponCacheMessage(
+        Type type,
+        long couponId,
+        CouponRedisEntity coupon
+) {
+
+    public enum Type {
+        UPDATE,
+        EVICT
+    }
+
+    public static CouponCacheMessage update(CouponRedisEntity coupon) {
+        return new CouponCacheMessage(Type.UPDATE, coupon.id(), coupon);
+    }
+
+    public static CouponCacheMessage evict(long couponId) {
+        return new CouponCacheMessage(Type.EVICT, couponId, null);
+    }
+}
@@ -0,0 +1,4 @@
+package com.dustin.couponcore.repository.redis.dto;
+
+public record CouponIssueDeadLetter(String payload, String errorCode, String reason, long attempts, long dateFailed) {
+}
@@ -1,4 +1,14 @@
 package com.dustin.couponcore.repository.redis.dto;
 
-public record CouponIssueRequest(long couponId, long userId) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_DEFAULT;
+
+// enqueuedAt은 요청이 큐에 추가된 시각(epoch millis)입니다. 0이면 알 수 없는 요청입니다.
+// Lua 스크립트가 Redis 서버 시각으로 값을 채우므로, 0인 경우 직렬화 결과에서 제외합니다.
+public record CouponIssueRequest(long couponId, long userId, @JsonInclude(NON_DEFAULT) long enqueuedAt) {
+
+    public CouponIssueRequest(long couponId, long userId) {
+        this(couponId, userId, 0);
+    }
 }
@@ -2,6 +2,7 @@ package com.dustin.couponcore.repository.redis.dto;
 
 import com.dustin.couponcore.exception.CouponIssueException;
 import com.dustin.couponcore.model.Coupon;
+import com.dustin.couponcore.model.CouponIssueDedupeType;
 import com.dustin.couponcore.model.CouponType;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -26,7 +27,9 @@ public record CouponRedisEntity(
 
         @JsonSerialize(using = LocalDateTimeSerializer.class)
         @JsonDeserialize(using = LocalDateTimeDeserializer.class)
-        LocalDateTime dateIssueEnd
+        LocalDateTime dateIssueEnd,
+
+        CouponIssueDedupeType issueDedupeType
 ) {
 
     public CouponRedisEntity(Coupon coupon) {
@@ -36,21 +39,29 @@ public record CouponRedisEntity(
                 coupon.getTotalQuantity(),
                 coupon.availableIssueQuantity(),
                 coupon.getDateIssueStart(),
-                coupon.getDateIssueEnd()
+                coupon.getDateIssueEnd(),
+                coupon.getIssueDedupeType()
         );
     }
 
-    private boolean availableIssueDate() {
-        LocalDateTime now = LocalDateTime.now();
+    // 필드가 추가되기 전에 캐시된 값은 issueDedupeType이 없으므로 SET으로 간주합니다.
+    @Override
+    public CouponIssueDedupeType issueDedupeType() {
+        return issueDedupeType == null ? CouponIssueDedupeType.SET : issueDedupeType;
+    }
+
+    private boolean availableIssueDate(LocalDateTime now) {
         return dateIssueStart.isBefore(now) && dateIssueEnd.isAfter(now);
     }
 
+    // 메시지는 로그에 남길 때 생성되므로, 요청 시각은 확인한 시점의 값을 사용합니다.
     public void checkIssuableCoupon() {
         if (!availableIssueQuantity) {
-            throw new CouponIssueException(INVALID_COUPON_ISSUE_QUANTITY, "모든 발급 수량이 소진되었습니다. coupon_id : %s".formatted(id));
+            throw CouponIssueException.rejected(INVALID_COUPON_ISSUE_QUANTITY, () -> "모든 발급 수량이 소진되었습니다. coupon_id : %s".formatted(id));
         }
-        if (!availableIssueDate()) {
-            throw new CouponIssueException(INVALID_COUPON_ISSUE_DATE, "발급 가능한 일자가 아닙니다. request : %s, issueStart: %s, issueEnd: %s".formatted(LocalDateTime.now(), dateIssueStart, dateIssueEnd));
+        LocalDateTime now = LocalDateTime.now();
+        if (!availableIssueDate(now)) {
+            throw CouponIssueException.rejected(INVALID_COUPON_ISSUE_DATE, () -> "발급 가능한 일자가 아닙니다. request : %s, issueStart: %s, issueEnd: %s".formatted(now, dateIssueStart, dateIssueEnd));
         }
     }
 }
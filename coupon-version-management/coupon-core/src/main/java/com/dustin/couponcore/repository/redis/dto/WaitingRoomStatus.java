@@ -0,0 +1,19 @@
+package com.dustin.couponcore.repository.redis.dto;
+
+// 대기열에서 유저의 상태입니다.
+// position은 앞에 대기 중인 유저 수 + 1이며, estimatedWaitSeconds는 position을 입장 허용 속도로 나눈 값입니다.
+// 입장이 허용되었거나 대기열에 없으면 position과 estimatedWaitSeconds는 0입니다.
+public record WaitingRoomStatus(boolean admitted, boolean waiting, long position, long estimatedWaitSeconds) {
+
+    public static WaitingRoomStatus admittedStatus() {
+        return new WaitingRoomStatus(true, false, 0, 0);
+    }
+
+    public static WaitingRoomStatus notEnteredStatus() {
+        return new WaitingRoomStatus(false, false, 0, 0);
+    }
+
+    public static WaitingRoomStatus waitingStatus(long position, double admissionPerSecond) {
+        return new WaitingRoomStatus(false, true, position, (long) Math.ceil(position / admissionPerSecond));
+    }
+}
@@ -1,19 +1,18 @@
 package com.dustin.couponcore.service;
 
+import com.dustin.couponcore.codec.CouponIssueRequestCodec;
+import com.dustin.couponcore.component.CouponExistenceFilter;
+import com.dustin.couponcore.component.CouponIssueRequestCoalescer;
 import com.dustin.couponcore.component.DistributeLockExecutor;
 import com.dustin.couponcore.exception.CouponIssueException;
 import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.model.CouponIssueDedupeType;
 import com.dustin.couponcore.repository.redis.RedisRepository;
 import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
 import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestKey;
-import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
-
 // @RequiredArgsConstructor 어노테이션은 final 필드에 대한 생성자를 자동으로 생성하여 의존성 주입을 간소화합니다.
 @RequiredArgsConstructor
 // @Service 어노테이션은 이 클래스가 서비스 레이어의 빈(Bean)임을 나타내며, Spring IoC 컨테이너에서 관리됩니다.
@@ -32,40 +31,55 @@ public class AsyncCouponIssueServiceV1 {
     // 쿠폰 캐시를 관리하는 서비스입니다.
     private final CouponCacheService couponCacheService;
 
-    // JSON 직렬화 및 역직렬화를 담당하는 ObjectMapper입니다.
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 존재하지 않는 쿠폰 ID의 요청을 거절하는 컴포넌트입니다.
+    private final CouponExistenceFilter couponExistenceFilter;
+
+    // 같은 쿠폰의 발급 요청을 서버 안에서 모아 한 번의 분산 락으로 처리하는 컴포넌트입니다.
+    private final CouponIssueRequestCoalescer couponIssueRequestCoalescer;
+
+    // 발급 요청을 큐에 저장할 형식(JSON 또는 바이너리)으로 변환하는 codec입니다.
+    private final CouponIssueRequestCodec couponIssueRequestCodec;
 
     // 쿠폰 발급을 처리하는 메서드입니다.
     public void issue(long couponId, long userId) {
+        // 존재하지 않는 것으로 확인된 쿠폰 ID는 캐시를 조회하지 않고 거절합니다.
+        couponExistenceFilter.check(couponId);
+
         // 쿠폰 캐시에서 쿠폰 정보를 가져옵니다.
         CouponRedisEntity coupon = couponCacheService.getCouponCache(couponId);
 
         // 쿠폰이 발급 가능한 상태인지 확인합니다.
         coupon.checkIssuableCoupon();
 
+        // 요청 병합을 사용하는 경우 같은 쿠폰의 요청들과 함께 한 번의 락 안에서 처리합니다.
+        if (couponIssueRequestCoalescer.isEnabled()) {
+            couponIssueRequestCoalescer.issue(coupon, userId);
+            return;
+        }
+
         // 쿠폰 ID를 기반으로 락을 획득하여 발급 프로세스를 동기화합니다.
         distributeLockExecutor.execute("lock_%s".formatted(couponId), 3000, 3000, () -> {
             // 쿠폰 발급 수량을 확인하고 중복 발급을 방지합니다.
             couponIssueRedisService.checkCouponIssueQuantity(coupon, userId);
 
             // 쿠폰 발급 요청을 처리합니다.
-            issueRequest(couponId, userId);
+            issueRequest(couponId, userId, coupon.issueDedupeType());
         });
     }
 
     // 쿠폰 발급 요청을 Redis에 저장하는 메서드입니다.
-    private void issueRequest(long couponId, long userId) {
+    private void issueRequest(long couponId, long userId, CouponIssueDedupeType dedupeType) {
         // 쿠폰 발급 요청 정보를 담은 객체를 생성합니다.
-        CouponIssueRequest issueRequest = new CouponIssueRequest(couponId, userId);
+        CouponIssueRequest issueRequest = new CouponIssueRequest(couponId, userId, System.currentTimeMillis());
         try {
-            // 쿠폰 발급 요청 객체를 JSON 문자열로 변환합니다.
-            String value = objectMapper.writeValueAsString(issueRequest);
-
-            // 쿠폰 발급 요청을 Redis의 집합(Set)과 큐(Queue)에 저장합니다.
-            redisRepository.sAdd(getIssueRequestKey(couponId), String.valueOf(userId));
-            redisRepository.rPush(getIssueRequestQueueKey(), value);
-        } catch (JsonProcessingException e) {
-            // JSON 변환 중 오류가 발생하면 예외를 던집니다.
+            // 쿠폰 발급 요청 객체를 큐에 저장할 문자열로 변환합니다.
+            String value = couponIssueRequestCodec.encode(issueRequest);
+
+            // 쿠폰 발급 요청을 Redis의 중복 확인용 집합(Set 또는 Bitmap)과 큐(Queue)에 저장합니다.
+            redisRepository.addIssueRequest(couponId, userId, dedupeType);
+            redisRepository.pushIssueRequest(couponId, value);
+        } catch (IllegalArgumentException e) {
+            // 변환 중 오류가 발생하면 예외를 던집니다.
             throw new CouponIssueException(ErrorCode.FAIL_COUPON_ISSUE_REQUEST, "input: %s".formatted(issueRequest));
         }
     }
@@ -1,5 +1,9 @@
 package com.dustin.couponcore.service;
 
+import com.dustin.couponcore.component.CouponExistenceFilter;
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.model.CouponIssueDedupeType;
 import com.dustin.couponcore.repository.redis.RedisRepository;
 import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
 import lombok.RequiredArgsConstructor;
@@ -17,26 +21,59 @@ public class AsyncCouponIssueServiceV2 {
     // 쿠폰 캐시를 관리하는 서비스입니다.
     private final CouponCacheService couponCacheService;
 
+    // 존재하지 않는 쿠폰 ID의 요청을 거절하는 컴포넌트입니다.
+    private final CouponExistenceFilter couponExistenceFilter;
+
+    // 남은 발급 수량을 블록 단위로 가져와 서버 메모리에서 나누어 주는 서비스입니다.
+    private final CouponQuotaLeaseService couponQuotaLeaseService;
+
     // 쿠폰 발급을 처리하는 메서드입니다.
     public void issue(long couponId, long userId) {
+        // 존재하지 않는 것으로 확인된 쿠폰 ID는 캐시를 조회하지 않고 거절합니다.
+        couponExistenceFilter.check(couponId);
+
         // 로컬 캐시에서 쿠폰 정보를 가져옵니다.
         CouponRedisEntity coupon = couponCacheService.getCouponLocalCache(couponId);
 
         // 쿠폰이 발급 가능한 상태인지 확인합니다.
         coupon.checkIssuableCoupon();
 
+        // quota lease를 사용하는 경우 서버가 가져온 수량 안에서 발급 요청을 처리합니다.
+        if (couponQuotaLeaseService.isEnabled() && coupon.totalQuantity() != null) {
+            issueRequestWithLease(couponId, userId, coupon.totalQuantity(), coupon.issueDedupeType());
+            return;
+        }
+
         // 쿠폰 발급 요청을 처리합니다.
-        issueRequest(couponId, userId, coupon.totalQuantity());
+        issueRequest(couponId, userId, coupon.totalQuantity(), coupon.issueDedupeType());
     }
 
     // 쿠폰 발급 요청을 Redis에 저장하는 메서드입니다.
-    public void issueRequest(long couponId, long userCouponId, Integer totalIssueQuantity) {
+    // 쿠폰에 설정된 중복 확인 방식(Set 또는 Bitmap)으로 중복 발급과 발급 수량을 확인합니다.
+    public void issueRequest(long couponId, long userCouponId, Integer totalIssueQuantity, CouponIssueDedupeType dedupeType) {
         // 총 발급 가능 수량이 null인 경우, 무제한 발급 가능으로 간주합니다.
         if (totalIssueQuantity == null) {
-            redisRepository.issueRequest(couponId, userCouponId, Integer.MAX_VALUE);
+            redisRepository.issueRequest(couponId, userCouponId, Integer.MAX_VALUE, dedupeType);
         } else {
             // 총 발급 가능 수량을 기준으로 쿠폰 발급 요청을 Redis에 저장합니다.
-            redisRepository.issueRequest(couponId, userCouponId, totalIssueQuantity);
+            redisRepository.issueRequest(couponId, userCouponId, totalIssueQuantity, dedupeType);
+        }
+    }
+
+    // 서버의 lease에서 발급 수량 하나를 가져온 뒤 발급 요청을 저장합니다.
+    // 수량은 lease로 보장되지만, 스크립트에서도 총 발급 수량을 확인하여 lease 계산이 어긋나도 초과 발급되지 않도록 합니다.
+    // 스크립트는 요청을 저장하면서 Redis에 기록된 lease의 사용하지 않은 수량을 줄이며, 저장에 실패하면 가져온 수량을 되돌립니다.
+    private void issueRequestWithLease(long couponId, long userId, int totalIssueQuantity, CouponIssueDedupeType dedupeType) {
+        String leaseId = couponQuotaLeaseService.acquire(couponId, totalIssueQuantity);
+        if (leaseId == null) {
+            throw CouponIssueException.rejected(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY,
+                    () -> "발급 가능한 수량을 초과합니다. couponId: %s".formatted(couponId));
+        }
+        try {
+            redisRepository.issueRequest(couponId, userId, totalIssueQuantity, dedupeType, leaseId);
+        } catch (RuntimeException e) {
+            couponQuotaLeaseService.release(couponId);
+            throw e;
         }
     }
 }
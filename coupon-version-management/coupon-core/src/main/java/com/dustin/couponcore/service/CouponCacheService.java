@@ -1,15 +1,22 @@
 package com.dustin.couponcore.service;
 
+import com.dustin.couponcore.component.CouponExistenceFilter;
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
 import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
 import com.dustin.couponcore.model.Coupon;
-import lombok.RequiredArgsConstructor;
+import com.dustin.couponcore.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.aop.framework.AopContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 
-// @RequiredArgsConstructor 어노테이션은 final 필드에 대한 생성자를 자동으로 생성하여 의존성 주입을 간소화합니다.
-@RequiredArgsConstructor
 // @Service 어노테이션은 이 클래스가 서비스 레이어의 빈(Bean)임을 나타내며, Spring IoC 컨테이너에서 관리됩니다.
 @Service
 public class CouponCacheService {
@@ -17,12 +24,38 @@ public class CouponCacheService {
     // 쿠폰 발급 관련 비즈니스 로직을 처리하는 서비스입니다.
     private final CouponIssueService couponIssueService;
 
+    // 존재하지 않는 쿠폰 ID를 기록하고 확인하는 컴포넌트입니다.
+    private final CouponExistenceFilter couponExistenceFilter;
+
+    // 쿠폰 로컬 캐시(Caffeine)입니다. 값을 읽어 오지 않고 로컬 캐시에 있는 값만 확인할 때 사용합니다.
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> couponLocalCache;
+
+    // Redis 캐시 미스 시 같은 쿠폰의 DB 조회를 하나로 합치는 SingleFlight입니다.
+    private final SingleFlight<Long, CouponRedisEntity> couponLoads = new SingleFlight<>();
+
+    // Redis 캐시 미스 시 DB에서 쿠폰 정보를 읽는 시간을 기록하는 Timer입니다.
+    private final Timer couponLoadTimer;
+
+    public CouponCacheService(CouponIssueService couponIssueService,
+                              CouponExistenceFilter couponExistenceFilter,
+                              @Qualifier("localCacheManager") CacheManager localCacheManager,
+                              MeterRegistry meterRegistry) {
+        this.couponIssueService = couponIssueService;
+        this.couponExistenceFilter = couponExistenceFilter;
+        this.couponLocalCache = ((CaffeineCache) localCacheManager.getCache("coupon")).getNativeCache();
+        this.couponLoadTimer = Timer.builder("coupon.cache.load")
+                .description("Redis 캐시 미스 시 DB에서 쿠폰 정보를 읽는 시간")
+                .tag("cache", "coupon")
+                .register(meterRegistry);
+    }
+
     // 쿠폰 정보를 캐시에서 조회하는 메서드입니다. 캐시 이름은 "coupon"으로 지정됩니다.
     // 캐시에 해당 쿠폰 ID에 대한 데이터가 없을 경우, couponIssueService를 통해 데이터를 조회하고 이를 캐시에 저장합니다.
+    // 같은 쿠폰의 캐시 미스가 동시에 발생하면 DB 조회는 한 번만 실행하고 나머지 요청은 그 결과를 함께 사용합니다.
+    // 존재하지 않는 쿠폰 ID는 negative cache에 기록하여, 기록이 남아 있는 동안에는 DB를 조회하지 않습니다.
     @Cacheable(cacheNames = "coupon")
     public CouponRedisEntity getCouponCache(long couponId) {
-        Coupon coupon = couponIssueService.findCoupon(couponId);
-        return new CouponRedisEntity(coupon);
+        return couponLoads.execute(couponId, () -> couponLoadTimer.record(() -> loadCoupon(couponId)));
     }
 
     // 쿠폰 정보를 캐시에 강제로 업데이트하는 메서드입니다. 캐시 이름은 "coupon"으로 지정됩니다.
@@ -34,11 +67,18 @@ public class CouponCacheService {
 
     // 로컬 캐시에서 쿠폰 정보를 조회하는 메서드입니다. 캐시 이름은 "coupon"이며, 로컬 캐시 관리자를 사용합니다.
     // 로컬 캐시에서 데이터가 없을 경우, proxy 메서드를 통해 글로벌 캐시에서 데이터를 조회합니다.
-    @Cacheable(cacheNames = "coupon", cacheManager = "localCacheManager")
+    // sync = true로 같은 쿠폰의 동시 미스는 한 요청만 글로벌 캐시를 조회하고, 갱신 시간이 지난 값은 백그라운드에서 다시 읽습니다.
+    @Cacheable(cacheNames = "coupon", cacheManager = "localCacheManager", sync = true)
     public CouponRedisEntity getCouponLocalCache(long couponId) {
         return proxy().getCouponCache(couponId);
     }
 
+    // 로컬 캐시에 있는 쿠폰 정보를 반환하고, 없으면 null을 반환합니다. Redis나 DB를 조회하지 않습니다.
+    // 갱신 시간이 지난 값이면 기존 값을 반환하고 백그라운드에서 다시 읽습니다.
+    public CouponRedisEntity findCouponLocalCache(long couponId) {
+        return (CouponRedisEntity) couponLocalCache.getIfPresent(couponId);
+    }
+
     // 로컬 캐시에 쿠폰 정보를 강제로 업데이트하는 메서드입니다. 캐시 이름은 "coupon"이며, 로컬 캐시 관리자를 사용합니다.
     // 이 메서드는 새로운 쿠폰 정보를 로컬 캐시에 저장하고, 기존의 로컬 캐시 데이터를 덮어씁니다.
     @CachePut(cacheNames = "coupon", cacheManager = "localCacheManager")
@@ -46,6 +86,32 @@ public class CouponCacheService {
         return getCouponLocalCache(couponId);
     }
 
+    // 다른 서버에서 전달받은 쿠폰 정보로 로컬 캐시를 갱신하는 메서드입니다.
+    // Redis나 DB를 조회하지 않고 전달받은 값을 그대로 로컬 캐시에 저장합니다.
+    @CachePut(cacheNames = "coupon", cacheManager = "localCacheManager", key = "#coupon.id()")
+    public CouponRedisEntity updateCouponLocalCache(CouponRedisEntity coupon) {
+        return coupon;
+    }
+
+    // 로컬 캐시에서 쿠폰 정보를 제거하는 메서드입니다. 다음 조회 시 글로벌 캐시에서 다시 가져옵니다.
+    @CacheEvict(cacheNames = "coupon", cacheManager = "localCacheManager")
+    public void evictCouponLocalCache(long couponId) {
+    }
+
+    private CouponRedisEntity loadCoupon(long couponId) {
+        couponExistenceFilter.checkNotMissing(couponId);
+        try {
+            Coupon coupon = couponIssueService.findCoupon(couponId);
+            couponExistenceFilter.markExisting(couponId);
+            return new CouponRedisEntity(coupon);
+        } catch (CouponIssueException e) {
+            if (e.getErrorCode() == ErrorCode.COUPON_NOT_EXIST) {
+                couponExistenceFilter.markMissing(couponId);
+            }
+            throw e;
+        }
+    }
+
     // 현재 프록시된 객체를 반환하는 메서드입니다.
     // Spring의 AOP 기반 캐시 어노테이션을 제대로 작동시키기 위해 사용됩니다.
     private CouponCacheService proxy() {
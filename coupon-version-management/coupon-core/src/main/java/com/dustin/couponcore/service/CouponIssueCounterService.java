@@ -0,0 +1,157 @@
+package com.dustin.couponcore.service;
+
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.model.Coupon;
+import com.dustin.couponcore.model.CouponIssueCounter;
+import com.dustin.couponcore.model.event.CouponIssueCompleteEvent;
+import com.dustin.couponcore.repository.mysql.CouponIssueCounterJpaRepository;
+import com.dustin.couponcore.repository.mysql.CouponJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+// @RequiredArgsConstructor 어노테이션은 final 필드에 대한 생성자를 자동으로 생성하여 의존성 주입을 간소화합니다.
+@RequiredArgsConstructor
+// @Service 어노테이션은 이 클래스가 서비스 레이어의 빈(Bean)임을 나타내며, Spring IoC 컨테이너에서 관리됩니다.
+@Service
+public class CouponIssueCounterService {
+
+    // 쿠폰별 발급 수량 카운터를 관리하는 JPA 레포지토리입니다.
+    private final CouponIssueCounterJpaRepository couponIssueCounterJpaRepository;
+
+    // 쿠폰 정보를 관리하는 JPA 레포지토리입니다.
+    private final CouponJpaRepository couponJpaRepository;
+
+    // Spring 이벤트를 발행하는 컴포넌트로, 발급 완료 이벤트를 전달할 때 사용됩니다.
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 발급 기간이 끝난 뒤에도 발급 수량을 집계하는 시간입니다.
+    private static final Duration AGGREGATE_GRACE = Duration.ofMinutes(1);
+
+    // 쿠폰 하나의 발급 수량을 나누어 저장할 카운터 row 수입니다.
+    @Value("${coupon.issue.counter.shard-count:16}")
+    private int shardCount;
+
+    // 남은 수량이 있는 카운터 row 중 하나의 발급 수량을 증가시킵니다.
+    // 각 row는 자신에게 할당된 수량(quota)까지만 증가하므로 전체 발급 수량은 정확히 유지됩니다.
+    // 소진된 row에는 UPDATE를 실행하지 않으므로, 보통 UPDATE 한 번으로 row 락 하나만 보유합니다.
+    // 모든 row의 수량이 소진되었으면 false를 반환합니다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean increase(Coupon coupon) {
+        // 같은 쿠폰의 요청들이 같은 row에 몰리지 않도록 임의의 순서로 시도합니다.
+        List<Integer> shardNos = new ArrayList<>(findAvailableShardNos(coupon));
+        Collections.shuffle(shardNos, ThreadLocalRandom.current());
+        for (int shardNo : shardNos) {
+            if (couponIssueCounterJpaRepository.increaseIssued(coupon.getId(), shardNo) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 남은 수량이 있는 카운터 row에 락을 걸고, 최대 quantity만큼 발급 수량을 나누어 증가시킵니다.
+    // 여러 row에 락을 걸기 때문에, 동시에 실행되는 일괄 발급끼리 교착 상태가 되지 않도록 row 번호 순서로 락을 겁니다.
+    // 증가시킨 수량을 반환하며, 모든 row의 수량이 소진되었으면 0을 반환합니다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int increase(Coupon coupon, int quantity) {
+        int remaining = quantity;
+        for (int shardNo : findAvailableShardNos(coupon)) {
+            if (remaining == 0) {
+                break;
+            }
+            CouponIssueCounter counter = couponIssueCounterJpaRepository.findCounterWithLock(coupon.getId(), shardNo).orElse(null);
+            if (counter != null) {
+                remaining -= counter.increase(remaining);
+            }
+        }
+        return quantity - remaining;
+    }
+
+    // 남은 수량이 있는 카운터 row 번호를 반환합니다.
+    // 카운터 row가 없는 경우(쿠폰의 첫 발급)에만 row를 생성하므로, 발급 요청마다 row 수를 확인하지 않습니다.
+    // row를 생성한 경우에는 다시 조회하지 않고 모든 row 번호를 반환합니다.
+    // REPEATABLE READ에서는 다른 트랜잭션이 먼저 생성한 row가 이 트랜잭션의 일반 SELECT에 보이지 않지만,
+    // 이후의 UPDATE와 SELECT ... FOR UPDATE는 커밋된 최신 row를 읽으므로 발급 수량을 증가시킬 수 있습니다.
+    private List<Integer> findAvailableShardNos(Coupon coupon) {
+        long couponId = coupon.getId();
+        List<Integer> shardNos = couponIssueCounterJpaRepository.findAvailableShardNos(couponId);
+        if (shardNos.isEmpty() && couponIssueCounterJpaRepository.countByCouponId(couponId) == 0) {
+            createCounters(coupon);
+            return IntStream.range(0, shardCount).boxed().toList();
+        }
+        return shardNos;
+    }
+
+    // 남은 발급 수량을 카운터 row마다 나누어 저장합니다. 이미 발급된 수량은 0번 row에 포함시킵니다.
+    // 현재 트랜잭션에서 INSERT IGNORE로 생성하므로, 동시에 다른 요청이 먼저 생성한 row는 그대로 유지되고 커넥션을 추가로 사용하지 않습니다.
+    // 다른 요청이 생성 중인 row는 해당 트랜잭션이 끝날 때까지 기다린 뒤 무시됩니다.
+    private void createCounters(Coupon coupon) {
+        long couponId = coupon.getId();
+        int issued = coupon.getIssuedQuantity();
+        int remaining = Math.max(0, coupon.getTotalQuantity() - issued);
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            int quota = remaining / shardCount + (shardNo < remaining % shardCount ? 1 : 0);
+            couponIssueCounterJpaRepository.insertIgnore(couponId, shardNo,
+                    shardNo == 0 ? quota + issued : quota,
+                    shardNo == 0 ? issued : 0);
+        }
+        log.info("counter initialized couponId: %s".formatted(couponId));
+    }
+
+    // 카운터 row의 발급 수량을 합산하여 coupons.issued_quantity를 갱신합니다.
+    // 값이 같으면 쿠폰 row를 수정하지 않으며, 발급이 완료되었으면 캐시 갱신을 위해 완료 이벤트를 발행합니다.
+    // 발급 트랜잭션 안에서 호출하지 않고, CouponIssueCounterAggregator가 쿠폰마다 별도의 트랜잭션으로 실행합니다.
+    @Transactional
+    public void aggregate(long couponId) {
+        long issued = couponIssueCounterJpaRepository.sumIssued(couponId);
+        Coupon coupon = findCoupon(couponId);
+        if (coupon.getIssuedQuantity() == issued) {
+            return;
+        }
+        coupon.updateIssuedQuantity((int) issued);
+        if (coupon.isIssueComplete()) {
+            applicationEventPublisher.publishEvent(new CouponIssueCompleteEvent(couponId));
+        }
+    }
+
+    // 카운터가 생성된 쿠폰 중 발급이 진행 중인 쿠폰의 발급 수량을 집계합니다.
+    // 발급이 완료된 쿠폰과 발급 기간이 지난 쿠폰은 매번 조회하지 않습니다.
+    // 발급 기간이 끝나기 직전의 발급 수량도 반영되도록, 종료 후 AGGREGATE_GRACE 동안은 계속 집계합니다.
+    public void aggregateAll() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long couponId : couponIssueCounterJpaRepository.findIssuingCouponIds(now, now.minus(AGGREGATE_GRACE))) {
+            proxy().aggregate(couponId);
+        }
+    }
+
+    private Coupon findCoupon(long couponId) {
+        return couponJpaRepository.findById(couponId).orElseThrow(() -> {
+            throw new CouponIssueException(ErrorCode.COUPON_NOT_EXIST,
+                    "쿠폰 정책이 존재하지 않습니다. %s".formatted(couponId));
+        });
+    }
+
+    // 현재 프록시된 객체를 반환하는 메서드입니다.
+    // 같은 클래스 안에서 쿠폰마다 트랜잭션이 적용되도록 사용합니다.
+    private CouponIssueCounterService proxy() {
+        return ((CouponIssueCounterService) AopContext.currentProxy());
+    }
+}
@@ -0,0 +1,9 @@
+package com.dustin.couponcore.service;
+
+// 쿠폰 중복 발급을 검증하는 방식을 정의하는 열거형(enum)입니다.
+public enum CouponIssueDuplicateCheck {
+    // 발급 정보를 저장하기 전에 조회 쿼리로 중복 발급 여부를 확인합니다.
+    SELECT,
+    // 조회 없이 저장하고, (coupon_id, user_id) 유니크 키 위반을 중복 발급으로 처리합니다.
+    CONSTRAINT
+}
@@ -0,0 +1,12 @@
+package com.dustin.couponcore.service;
+
+// 쿠폰 발급 시 발급 수량을 증가시키는 방식을 정의하는 열거형(enum)입니다.
+public enum CouponIssueMode {
+    // SELECT ... FOR UPDATE로 쿠폰을 조회한 뒤 발급 수량을 증가시킵니다. 트랜잭션 전체 동안 락을 보유합니다.
+    LOCK,
+    // 조건부 UPDATE 한 번으로 발급 수량을 증가시킵니다. 락은 마지막 UPDATE부터 커밋까지만 보유합니다.
+    ATOMIC,
+    // 쿠폰별로 나뉜 여러 카운터 row 중 하나의 발급 수량을 증가시킵니다. 쓰기가 여러 row로 분산됩니다.
+    // coupons.issued_quantity는 주기적으로, 그리고 수량이 소진되었을 때 집계하여 갱신합니다.
+    SHARDED
+}
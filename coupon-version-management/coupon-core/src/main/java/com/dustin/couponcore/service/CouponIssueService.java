@@ -9,10 +9,18 @@ import com.dustin.couponcore.repository.mysql.CouponJpaRepository;
 import com.dustin.couponcore.model.Coupon;
 import com.dustin.couponcore.model.CouponIssue;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 // @RequiredArgsConstructor 어노테이션은 final 필드에 대한 생성자를 자동으로 생성하여 의존성 주입을 간소화 합니다.
 @RequiredArgsConstructor
 // @Service 어노테이션은 이 클래스가 서비스 레이어의 빈(Bean)임을 나타내며, Spring IoC 컨테이너에서 관리됩니다.
@@ -28,12 +36,35 @@ public class CouponIssueService {
     // 쿠폰 발급 정보를 조회하는 커스텀 레포지토리입니다.
     private final CouponIssueRepository couponIssueRepository;
 
+    // 쿠폰별로 나뉜 발급 수량 카운터를 관리하는 서비스입니다.
+    private final CouponIssueCounterService couponIssueCounterService;
+
     // Spring 이벤트를 발행하는 컴포넌트로, 특정 이벤트를 다른 컴포넌트에 전달할 때 사용됩니다.
     private final ApplicationEventPublisher applicationEventPublisher;
 
+    // 발급 수량을 증가시키는 방식입니다. 배포 환경별로 coupon.issue.mode 설정으로 선택합니다.
+    @Value("${coupon.issue.mode:lock}")
+    private CouponIssueMode issueMode;
+
+    // 중복 발급을 검증하는 방식입니다. constraint인 경우 조회 쿼리 없이 유니크 키 위반으로 중복을 판단합니다.
+    @Value("${coupon.issue.duplicate-check:select}")
+    private CouponIssueDuplicateCheck duplicateCheck;
+
     // 쿠폰을 발급하는 메서드입니다. 트랜잭션 내에서 실행되며, 쿠폰 발급과 관련된 모든 작업을 처리합니다.
     @Transactional
     public void issue(long couponId, long userId) {
+        // 조건부 UPDATE 방식이 설정된 경우 쿠폰 락 없이 발급합니다.
+        if (issueMode == CouponIssueMode.ATOMIC) {
+            issueAtomically(couponId, userId);
+            return;
+        }
+
+        // 카운터 분산 방식이 설정된 경우 쿠폰 row 대신 카운터 row 중 하나의 발급 수량을 증가시킵니다.
+        if (issueMode == CouponIssueMode.SHARDED) {
+            issueWithShardedCounter(couponId, userId);
+            return;
+        }
+
         // 락을 걸어 쿠폰을 조회하고 발급 가능한 상태로 변경합니다.
         Coupon coupon = findCouponWithLock(couponId);
         coupon.issue();
@@ -45,6 +76,136 @@ public class CouponIssueService {
         publishCouponEvent(coupon);
     }
 
+    // 조건부 UPDATE 한 번으로 발급 수량을 증가시키는 메서드입니다.
+    // 중복 검증과 발급 정보 저장을 먼저 수행하고 UPDATE를 마지막에 실행하여, 쿠폰 row 락을 커밋 직전에만 보유합니다.
+    private void issueAtomically(long couponId, long userId) {
+        // 쿠폰 발급 정보를 저장합니다. 이후 UPDATE가 실패하면 트랜잭션과 함께 롤백됩니다.
+        saveCouponIssue(couponId, userId);
+
+        // 발급 가능한 수량과 기간을 만족하는 경우에만 발급 수량을 증가시킵니다.
+        // 발급한 뒤에도 수량이 남는 대부분의 요청은 UPDATE 한 번으로 끝나므로, 쿠폰 row를 다시 조회하지 않습니다.
+        LocalDateTime now = LocalDateTime.now();
+        if (couponJpaRepository.increaseIssuedQuantity(couponId, now) == 1) {
+            return;
+        }
+
+        // 마지막 수량을 발급한 경우에만 발급 완료 이벤트를 발행합니다.
+        if (couponJpaRepository.increaseLastIssuedQuantity(couponId, now) == 1) {
+            applicationEventPublisher.publishEvent(new CouponIssueCompleteEvent(couponId));
+            return;
+        }
+        throw issueFailure(findCoupon(couponId));
+    }
+
+    // 쿠폰별 카운터 row 중 하나의 발급 수량을 증가시키는 메서드입니다.
+    // 쿠폰 row는 읽기만 하므로 같은 쿠폰의 발급 요청들이 여러 카운터 row로 분산됩니다.
+    private void issueWithShardedCounter(long couponId, long userId) {
+        Coupon coupon = findCoupon(couponId);
+
+        // 최대 수량이 없는 쿠폰은 카운터를 나눌 필요가 없으므로 조건부 UPDATE 방식으로 발급합니다.
+        if (coupon.getTotalQuantity() == null) {
+            issueAtomically(couponId, userId);
+            return;
+        }
+        if (!coupon.availableIssueDate()) {
+            throw issueFailure(coupon);
+        }
+
+        // 쿠폰 발급 정보를 저장합니다. 이후 카운터 증가가 실패하면 트랜잭션과 함께 롤백됩니다.
+        saveCouponIssue(couponId, userId);
+
+        // 모든 카운터의 수량이 소진되었으면 거절합니다.
+        // 소진 상태는 CouponIssueCounterAggregator가 별도의 트랜잭션에서 집계하여 캐시에 반영하므로, 발급 트랜잭션에서 커넥션을 추가로 사용하지 않습니다.
+        if (!couponIssueCounterService.increase(coupon)) {
+            throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY,
+                    "발급 가능한 수량을 초과합니다. couponId: %s, total : %s".formatted(couponId, coupon.getTotalQuantity()));
+        }
+    }
+
+    // 카운터 분산 방식에서 최대 quantity만큼 발급 수량을 증가시키고, 증가시킨 수량을 반환하는 메서드입니다.
+    // 최대 수량이 없는 쿠폰은 쿠폰 row의 발급 수량을 UPDATE 한 번으로 증가시킵니다.
+    private int increaseShardedCounter(Coupon coupon, int quantity) {
+        if (!coupon.availableIssueDate()) {
+            throw issueFailure(coupon);
+        }
+        if (coupon.getTotalQuantity() == null) {
+            couponJpaRepository.increaseIssuedQuantityBy(coupon.getId(), quantity);
+            return quantity;
+        }
+        int increased = couponIssueCounterService.increase(coupon, quantity);
+        if (increased == 0) {
+            throw new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY,
+                    "발급 가능한 수량을 초과합니다. couponId: %s, total : %s".formatted(coupon.getId(), coupon.getTotalQuantity()));
+        }
+        return increased;
+    }
+
+    // 조건부 UPDATE가 실패한 원인에 맞는 예외를 생성하는 메서드입니다.
+    private CouponIssueException issueFailure(Coupon coupon) {
+        if (!coupon.availableIssueDate()) {
+            return new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_DATE,
+                    "발급 가능한 일자가 아닙니다. request : %s, issueStart: %s, issueEnd: %s".formatted(LocalDateTime.now(), coupon.getDateIssueStart(), coupon.getDateIssueEnd()));
+        }
+        return new CouponIssueException(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY,
+                "발급 가능한 수량을 초과합니다. total : %s, issued: %s".formatted(coupon.getTotalQuantity(), coupon.getIssuedQuantity()));
+    }
+
+    // 같은 쿠폰에 대한 여러 발급 요청을 하나의 트랜잭션으로 처리하는 메서드입니다.
+    // 쿠폰 락은 한 번만 획득하고, 중복 검증은 한 번의 조회로, 발급 수량은 한 번에 증가시킵니다.
+    // 남은 수량보다 요청이 많으면 요청 순서대로 남은 수량만큼 발급하고, 발급하지 못한 유저 ID를 반환합니다.
+    // 카운터 분산 방식에서는 쿠폰 row 대신 카운터 row의 발급 수량을 증가시킵니다.
+    @Transactional
+    public List<Long> issueBatch(long couponId, List<Long> userIds) {
+        // 락을 걸어 쿠폰을 조회합니다. 카운터 분산 방식에서는 쿠폰 row를 수정하지 않으므로 락을 걸지 않습니다.
+        boolean sharded = issueMode == CouponIssueMode.SHARDED;
+        Coupon coupon = sharded ? findCoupon(couponId) : findCouponWithLock(couponId);
+
+        // 이미 발급된 사용자를 한 번의 쿼리로 조회합니다.
+        Set<Long> issuedUserIds = new HashSet<>(couponIssueRepository.findIssuedUserIds(couponId, userIds));
+
+        // 이미 발급된 사용자와 요청 내 중복 사용자를 제외한 발급 대상을 생성합니다.
+        // 중복 요청을 건너뛰기 때문에 같은 배치가 다시 처리되더라도 중복 발급되지 않습니다.
+        List<CouponIssue> couponIssues = userIds.stream()
+                .distinct()
+                .filter(userId -> !issuedUserIds.contains(userId))
+                .map(userId -> CouponIssue.builder()
+                        .couponId(couponId)
+                        .userId(userId)
+                        .build())
+                .toList();
+
+        // 발급할 대상이 없으면 종료합니다.
+        if (couponIssues.isEmpty()) {
+            return List.of();
+        }
+
+        // 남은 수량만큼 발급 수량을 한 번에 증가시키고, 앞에서부터 발급한 수량만큼 발급 정보를 일괄 저장합니다.
+        int issued = sharded
+                ? increaseShardedCounter(coupon, couponIssues.size())
+                : coupon.issueUpTo(couponIssues.size());
+        couponIssueJpaRepository.saveAll(couponIssues.subList(0, issued));
+
+        // 쿠폰 발급 완료 이벤트를 발행합니다. 카운터 분산 방식에서는 CouponIssueCounterAggregator가 집계 후 발행합니다.
+        if (!sharded) {
+            publishCouponEvent(coupon);
+        }
+        return couponIssues.subList(issued, couponIssues.size()).stream()
+                .map(CouponIssue::getUserId)
+                .toList();
+    }
+
+    // 발급 기간 중이거나 until 이전에 발급이 시작되는 쿠폰의 ID 목록을 조회합니다.
+    @Transactional(readOnly = true)
+    public List<Long> findIssuableCouponIds(LocalDateTime until) {
+        return couponJpaRepository.findIssuableCouponIds(LocalDateTime.now(), until);
+    }
+
+    // 모든 쿠폰의 ID 목록을 조회합니다.
+    @Transactional(readOnly = true)
+    public List<Long> findCouponIds() {
+        return couponJpaRepository.findAllIds();
+    }
+
     // 쿠폰을 조회하는 메서드입니다. 트랜잭션이 읽기 전용으로 설정되어 있어 성능을 최적화합니다.
     @Transactional(readOnly = true)
     public Coupon findCoupon(long couponId) {
@@ -68,19 +229,47 @@ public class CouponIssueService {
     // 쿠폰 발급 정보를 저장하는 메서드입니다. 트랜잭션 내에서 실행됩니다.
     @Transactional
     public CouponIssue saveCouponIssue(long couponId, long userId) {
-        // 이미 발급된 쿠폰인지 확인합니다.
-        checkAlreadyIssuance(couponId, userId);
-
         // 쿠폰 발급 정보를 생성합니다.
         CouponIssue couponIssue = CouponIssue.builder()
                 .couponId(couponId)
                 .userId(userId)
                 .build();
 
+        // 유니크 키로 중복을 판단하는 경우, 조회 없이 바로 저장하여 인덱스를 사용하는 INSERT 한 번으로 처리합니다.
+        if (duplicateCheck == CouponIssueDuplicateCheck.CONSTRAINT) {
+            return saveCouponIssueWithConstraint(couponIssue);
+        }
+
+        // 이미 발급된 쿠폰인지 확인합니다.
+        checkAlreadyIssuance(couponId, userId);
+
         // 쿠폰 발급 정보를 데이터베이스에 저장하고 반환합니다.
         return couponIssueJpaRepository.save(couponIssue);
     }
 
+    // 쿠폰 발급 정보를 즉시 저장하고, (coupon_id, user_id) 유니크 키 위반을 중복 발급 예외로 변환하는 메서드입니다.
+    private CouponIssue saveCouponIssueWithConstraint(CouponIssue couponIssue) {
+        try {
+            return couponIssueJpaRepository.saveAndFlush(couponIssue);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicatedCouponIssue(e)) {
+                throw e;
+            }
+            throw new CouponIssueException(ErrorCode.DUPLICATED_COUPON_ISSUE,
+                    "이미 발급된 쿠폰입니다. user_id: %d, coupon_id: %d".formatted(couponIssue.getUserId(), couponIssue.getCouponId()));
+        }
+    }
+
+    // 예외가 쿠폰 발급 내역의 유니크 키 위반으로 발생했는지 확인하는 메서드입니다.
+    private boolean isDuplicatedCouponIssue(DataIntegrityViolationException exception) {
+        if (exception.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null) {
+            return violation.getConstraintName().contains(CouponIssue.COUPON_USER_UNIQUE_KEY);
+        }
+        String message = exception.getMostSpecificCause().getMessage();
+        return message != null && message.contains(CouponIssue.COUPON_USER_UNIQUE_KEY);
+    }
+
     // 사용자가 이미 쿠폰을 발급받았는지 확인하는 메서드입니다.
     private void checkAlreadyIssuance(long couponId, long userId) {
         // 특정 쿠폰과 사용자에 대해 발급된 쿠폰이 있는지 조회합니다.
@@ -0,0 +1,207 @@
+package com.dustin.couponcore.service;
+
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// 쿠폰의 남은 발급 수량을 Redis 카운터에서 블록 단위로 가져와(lease) 서버 메모리에서 나누어 주는 서비스입니다.
+// 발급 요청마다 수량 확인을 위해 Redis를 조회하지 않고, 남은 수량이 없으면 서버 안에서 바로 거절합니다.
+// 사용하지 않은 수량은 lease 만료 시와 애플리케이션 종료 시 Redis 카운터에 되돌립니다.
+@RequiredArgsConstructor
+@Service
+public class CouponQuotaLeaseService {
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 쿠폰 ID 별로 현재 서버가 가지고 있는 lease입니다.
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 쿠폰 ID 별로 lease를 교체하거나 되돌리는 작업을 직렬화하는 락입니다. 서로 다른 쿠폰의 lease 교체는 서로 기다리지 않습니다.
+    // Redis 호출을 감싸므로 synchronized 대신 ReentrantLock을 사용하여 virtual thread가 carrier thread에 고정(pinning)되지 않도록 합니다.
+    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    // Redis에 기록하는 lease의 만료 시간은 서버의 lease 유효 시간의 배수입니다.
+    // 서버는 만료된 lease를 ttl-ms 주기로 되돌리므로, 실행 중인 서버의 lease는 Redis에서 만료되기 전에 되돌려집니다.
+    // Redis에서 만료된 lease는 종료된 서버의 lease로 보고, 다음 lease 요청 시 사용하지 않은 수량을 되돌립니다.
+    private static final int SERVER_LEASE_TTL_MULTIPLIER = 3;
+
+    // lease ID에 사용하는 서버 ID와 순번입니다.
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong leaseSequence = new AtomicLong();
+
+    // 만료된 lease의 수량을 되돌리는 스레드입니다. 스케줄링 설정과 관계없이 동작하도록 별도로 생성합니다.
+    private ScheduledExecutorService executorService;
+
+    // quota lease 사용 여부입니다. 모든 API 서버에 같은 값을 설정해야 합니다.
+    @Value("${coupon.issue.quota-lease.enabled:false}")
+    private boolean enabled;
+
+    // 한 번에 가져올 발급 수량입니다.
+    @Value("${coupon.issue.quota-lease.block-size:100}")
+    private int blockSize;
+
+    // lease의 유효 시간입니다. 만료되면 남은 수량을 되돌리고, 소진 상태도 이 시간이 지나면 다시 확인합니다.
+    @Value("${coupon.issue.quota-lease.ttl-ms:10000}")
+    private long ttlMs;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-quota-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.scheduleWithFixedDelay(this::returnExpiredLeases, ttlMs, ttlMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 발급 수량 하나를 가져오고, 수량을 가져온 lease의 ID를 반환합니다.
+    // 서버의 lease가 비었으면 Redis에서 새로 가져오고, 남은 수량이 없으면 null을 반환합니다.
+    public String acquire(long couponId, int totalIssueQuantity) {
+        Lease lease = leases.get(couponId);
+        if (lease != null && !lease.isExpired() && lease.tryAcquire()) {
+            return lease.id;
+        }
+        // 소진 상태로 확인된 lease는 만료 전까지 Redis를 조회하지 않고 거절합니다.
+        if (lease != null && !lease.isExpired() && lease.soldOut) {
+            return null;
+        }
+        ReentrantLock lock = getLock(couponId);
+        lock.lock();
+        try {
+            Lease current = leases.get(couponId);
+            if (current != lease && current != null && !current.isExpired() && current.tryAcquire()) {
+                return current.id;
+            }
+            if (current != null) {
+                returnLease(couponId, current);
+            }
+            String leaseId = nodeId + ":" + leaseSequence.incrementAndGet();
+            long leased = redisRepository.leaseQuota(couponId, totalIssueQuantity, blockSize, leaseId, ttlMs * SERVER_LEASE_TTL_MULTIPLIER);
+            Lease renewed = new Lease(leaseId, (int) leased, System.currentTimeMillis() + ttlMs);
+            leases.put(couponId, renewed);
+            return renewed.tryAcquire() ? leaseId : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 가져온 발급 수량을 사용하지 못한 경우(중복 발급 등) 서버의 lease에 되돌립니다.
+    // lease를 되돌리는 작업과 같은 락을 사용하여, 이미 되돌린 lease에 수량을 더해 유실되지 않도록 합니다.
+    // 유효한 lease가 없으면 Redis 카운터에 바로 되돌립니다.
+    public void release(long couponId) {
+        ReentrantLock lock = getLock(couponId);
+        lock.lock();
+        try {
+            Lease lease = leases.get(couponId);
+            if (lease != null && !lease.isExpired()) {
+                lease.permits.incrementAndGet();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        redisRepository.returnQuota(couponId, 1);
+    }
+
+    // 애플리케이션 종료 시 모든 lease의 남은 수량을 되돌립니다.
+    @PreDestroy
+    public void returnAll() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        leases.keySet().forEach(couponId -> returnLeaseIf(couponId, lease -> true));
+    }
+
+    private void returnExpiredLeases() {
+        for (Long couponId : leases.keySet()) {
+            try {
+                returnLeaseIf(couponId, Lease::isExpired);
+            } catch (Exception e) {
+                log.error("quota lease return failed. couponId: %s".formatted(couponId), e);
+            }
+        }
+    }
+
+    // 쿠폰의 락을 잡은 상태에서 조건에 맞는 lease를 제거하고 남은 수량을 되돌립니다.
+    private void returnLeaseIf(long couponId, Predicate<Lease> condition) {
+        ReentrantLock lock = getLock(couponId);
+        lock.lock();
+        try {
+            Lease lease = leases.get(couponId);
+            if (lease != null && condition.test(lease)) {
+                leases.remove(couponId, lease);
+                returnLease(couponId, lease);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock getLock(long couponId) {
+        return locks.computeIfAbsent(couponId, id -> new ReentrantLock());
+    }
+
+    // lease의 남은 수량을 0으로 만들고 Redis 카운터에 되돌립니다. 남은 수량이 없어도 Redis의 lease 기록은 제거합니다.
+    private void returnLease(long couponId, Lease lease) {
+        int remaining = lease.permits.getAndSet(0);
+        if (!lease.soldOut) {
+            redisRepository.returnLeaseQuota(couponId, lease.id, remaining);
+        }
+    }
+
+    private static class Lease {
+
+        // Redis에 lease를 기록하는 ID입니다. (서버 ID:순번)
+        private final String id;
+
+        // 서버가 나누어 줄 수 있는 남은 발급 수량입니다.
+        private final AtomicInteger permits;
+
+        // Redis에서 가져온 수량이 0이면 전체 발급 수량이 소진된 상태입니다.
+        private final boolean soldOut;
+
+        private final long expiresAt;
+
+        private Lease(String id, int permits, long expiresAt) {
+            this.id = id;
+            this.permits = new AtomicInteger(permits);
+            this.soldOut = permits == 0;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean tryAcquire() {
+            return permits.getAndUpdate(permit -> permit > 0 ? permit - 1 : permit) > 0;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.dustin.couponcore.service;
+
+import com.dustin.couponcore.component.CouponExistenceFilter;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// AsyncCouponIssueServiceV2의 발급 요청을 요청 스레드를 점유하지 않고 처리하는 서비스입니다.
+// 로컬 캐시에 있는 쿠폰은 바로 확인하고, 발급 요청 스크립트는 ReactiveRedisTemplate으로 실행합니다.
+// 로컬 캐시 미스와 quota lease처럼 블로킹 호출이 필요한 경우에만 boundedElastic 스케줄러에서 실행합니다.
+@RequiredArgsConstructor
+@Service
+public class ReactiveCouponIssueService {
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 쿠폰 캐시를 관리하는 서비스입니다.
+    private final CouponCacheService couponCacheService;
+
+    // 존재하지 않는 쿠폰 ID의 요청을 거절하는 컴포넌트입니다.
+    private final CouponExistenceFilter couponExistenceFilter;
+
+    // 남은 발급 수량을 블록 단위로 가져와 서버 메모리에서 나누어 주는 서비스입니다.
+    private final CouponQuotaLeaseService couponQuotaLeaseService;
+
+    // quota lease를 사용하는 경우 발급 요청을 처리하는 서비스입니다.
+    private final AsyncCouponIssueServiceV2 asyncCouponIssueServiceV2;
+
+    // 쿠폰 발급 요청을 처리합니다. 결과는 완료 또는 CouponIssueException error로 전달됩니다.
+    public Mono<Void> issue(long couponId, long userId) {
+        return Mono.defer(() -> {
+            // 존재하지 않는 것으로 확인된 쿠폰 ID는 캐시를 조회하지 않고 거절합니다.
+            couponExistenceFilter.check(couponId);
+
+            // quota lease는 lease를 채울 때 Redis를 동기적으로 호출하므로 기존 서비스를 별도 스레드에서 실행합니다.
+            if (couponQuotaLeaseService.isEnabled()) {
+                return Mono.<Void>fromRunnable(() -> asyncCouponIssueServiceV2.issue(couponId, userId))
+                        .subscribeOn(Schedulers.boundedElastic());
+            }
+
+            return findCoupon(couponId).flatMap(coupon -> {
+                // 쿠폰이 발급 가능한 상태인지 확인합니다.
+                coupon.checkIssuableCoupon();
+
+                // 총 발급 가능 수량이 null인 경우, 무제한 발급 가능으로 간주합니다.
+                int totalIssueQuantity = coupon.totalQuantity() == null ? Integer.MAX_VALUE : coupon.totalQuantity();
+                return redisRepository.issueRequestReactive(couponId, userId, totalIssueQuantity, coupon.issueDedupeType());
+            });
+        });
+    }
+
+    // 로컬 캐시에 있으면 바로 반환하고, 없으면 Redis 캐시(또는 DB)에서 읽어 로컬 캐시에 적재합니다.
+    private Mono<CouponRedisEntity> findCoupon(long couponId) {
+        CouponRedisEntity coupon = couponCacheService.findCouponLocalCache(couponId);
+        if (coupon != null) {
+            return Mono.just(coupon);
+        }
+        return Mono.fromCallable(() -> couponCacheService.getCouponLocalCache(couponId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,166 @@
+package com.dustin.couponcore.service;
+
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.repository.redis.RedisRepository;
+import com.dustin.couponcore.repository.redis.dto.WaitingRoomStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.dustin.couponcore.repository.redis.RedisRepository.WAITING_ROOM_ADMITTED;
+import static com.dustin.couponcore.repository.redis.RedisRepository.WAITING_ROOM_NOT_ENTERED;
+
+// 발급 요청이 한 번에 몰리는 쿠폰에 대기열(virtual waiting room)을 적용하는 서비스입니다.
+// 유저는 대기열(ZSET)에 입장한 순서대로 순서를 받고, 스케줄러가 설정된 속도로 대기열 앞에서부터 입장을 허용합니다.
+// 대기열을 사용하는 쿠폰은 입장이 허용된 유저의 발급 요청만 처리하므로, 요청이 몰려도 발급 요청 처리량은 입장 허용 속도로 유지됩니다.
+@RequiredArgsConstructor
+@Service
+public class WaitingRoomService {
+
+    // Redis와의 상호작용을 담당하는 레포지토리입니다.
+    private final RedisRepository redisRepository;
+
+    // 메트릭을 등록하는 Micrometer 레지스트리입니다.
+    private final MeterRegistry meterRegistry;
+
+    // 로깅을 위한 Logger 인스턴스입니다. 이 클래스의 이름을 로깅 메시지에 사용합니다.
+    private final Logger log = LoggerFactory.getLogger(this.getClass().getSimpleName());
+
+    // 입장을 허용하는 스레드입니다. 스케줄링 설정과 관계없이 동작하도록 별도로 생성합니다.
+    private ScheduledExecutorService executorService;
+
+    // 대기열 사용 여부입니다. 모든 API 서버에 같은 값을 설정해야 합니다.
+    @Value("${coupon.waiting-room.enabled:false}")
+    private boolean enabled;
+
+    // 대기열을 적용할 쿠폰 ID 목록입니다.
+    @Value("${coupon.waiting-room.coupon-ids:}")
+    private Set<Long> couponIds;
+
+    // 쿠폰별로 초당 입장을 허용할 유저 수입니다. 여러 서버가 입장을 허용해도 합계는 이 값을 넘지 않습니다.
+    @Value("${coupon.waiting-room.admission-per-second:500}")
+    private double admissionPerSecond;
+
+    // 한 번에 입장을 허용할 최대 유저 수입니다.
+    @Value("${coupon.waiting-room.max-batch-size:1000}")
+    private long maxBatchSize;
+
+    // 입장을 허용하는 주기입니다.
+    @Value("${coupon.waiting-room.admission-interval-ms:200}")
+    private long admissionIntervalMs;
+
+    // 입장이 허용된 유저가 발급을 요청할 수 있는 시간입니다. 지나면 다시 대기열에 입장해야 합니다.
+    @Value("${coupon.waiting-room.admitted-ttl-ms:300000}")
+    private long admittedTtlMs;
+
+    @PostConstruct
+    void init() {
+        if (!enabled || couponIds.isEmpty()) {
+            return;
+        }
+        for (Long couponId : couponIds) {
+            Gauge.builder("coupon.waiting.room.size", redisRepository, repository -> repository.waitingRoomSize(couponId))
+                    .description("대기열에서 입장을 기다리는 유저 수")
+                    .tag("couponId", String.valueOf(couponId))
+                    .register(meterRegistry);
+        }
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-waiting-room");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.scheduleWithFixedDelay(this::admitAll, admissionIntervalMs, admissionIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // 대기열을 적용하는 쿠폰인지 확인합니다.
+    public boolean isWaitingRoomCoupon(long couponId) {
+        return enabled && couponIds.contains(couponId);
+    }
+
+    // 대기열에 입장합니다. 이미 대기 중이거나 입장이 허용된 유저는 기존 상태를 유지합니다.
+    public WaitingRoomStatus enter(long couponId, long userId) {
+        WaitingRoomStatus status = getStatus(couponId, userId);
+        if (status.admitted() || status.waiting()) {
+            return status;
+        }
+        redisRepository.enterWaitingRoom(couponId, userId);
+        return getStatus(couponId, userId);
+    }
+
+    // 대기열에서 유저의 상태를 조회합니다. 대기열을 적용하지 않는 쿠폰은 항상 입장이 허용된 상태입니다.
+    public WaitingRoomStatus getStatus(long couponId, long userId) {
+        if (!isWaitingRoomCoupon(couponId)) {
+            return WaitingRoomStatus.admittedStatus();
+        }
+        long rank = redisRepository.waitingRoomRank(couponId, userId);
+        if (rank == WAITING_ROOM_ADMITTED) {
+            return WaitingRoomStatus.admittedStatus();
+        }
+        if (rank == WAITING_ROOM_NOT_ENTERED) {
+            return WaitingRoomStatus.notEnteredStatus();
+        }
+        return WaitingRoomStatus.waitingStatus(rank + 1, admissionPerSecond);
+    }
+
+    // 대기열을 적용하는 쿠폰이면 입장이 허용된 유저인지 확인합니다. 발급 요청을 처리하기 전에 호출합니다.
+    public void checkAdmitted(long couponId, long userId) {
+        if (isWaitingRoomCoupon(couponId) && !redisRepository.isWaitingRoomAdmitted(couponId, userId)) {
+            throw notAdmitted(couponId, userId);
+        }
+    }
+
+    public Mono<Void> checkAdmittedReactive(long couponId, long userId) {
+        if (!isWaitingRoomCoupon(couponId)) {
+            return Mono.empty();
+        }
+        return redisRepository.isWaitingRoomAdmittedReactive(couponId, userId)
+                .flatMap(admitted -> admitted ? Mono.<Void>empty() : Mono.error(notAdmitted(couponId, userId)));
+    }
+
+    // 대기열을 적용하는 모든 쿠폰에 대해 입장을 허용합니다. 실패한 쿠폰은 다음 주기에 다시 시도합니다.
+    private void admitAll() {
+        for (Long couponId : couponIds) {
+            try {
+                long admitted = redisRepository.admitWaitingRoom(couponId, admissionPerSecond, maxBatchSize, admittedTtlMs);
+                if (admitted > 0) {
+                    admittedCounter(couponId).increment(admitted);
+                }
+            } catch (Exception e) {
+                log.error("waiting room admission 실패 couponId: %s".formatted(couponId), e);
+            }
+        }
+    }
+
+    private Counter admittedCounter(long couponId) {
+        return Counter.builder("coupon.waiting.room.admitted")
+                .description("대기열에서 입장이 허용된 유저 수")
+                .tag("couponId", String.valueOf(couponId))
+                .register(meterRegistry);
+    }
+
+    private CouponIssueException notAdmitted(long couponId, long userId) {
+        return CouponIssueException.rejected(ErrorCode.NOT_ADMITTED_ISSUE_REQUEST,
+                () -> "대기열 입장이 허용되지 않았습니다. couponId: %s, userId: %s".formatted(couponId, userId));
+    }
+}
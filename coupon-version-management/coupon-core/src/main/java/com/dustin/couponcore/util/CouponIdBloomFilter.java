@@ -0,0 +1,53 @@
+package com.dustin.couponcore.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 쿠폰 ID의 존재 여부를 확인하는 Bloom filter입니다.
+// mightContain이 false면 해당 쿠폰 ID는 추가된 적이 없으며, true면 false-positive-rate 확률로 잘못된 결과일 수 있습니다.
+// 비트 배열을 AtomicLongArray로 관리하므로 조회 중에도 안전하게 ID를 추가할 수 있습니다.
+public class CouponIdBloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitSize;
+
+    private final int hashCount;
+
+    public CouponIdBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((Math.max(64, m) + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(long couponId) {
+        long hash1 = mix(couponId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask = 1L << index;
+            bits.accumulateAndGet((int) (index >>> 6), mask, (current, bit) -> current | bit);
+        }
+    }
+
+    public boolean mightContain(long couponId) {
+        long hash1 = mix(couponId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 연속된 쿠폰 ID가 비트 배열에 고르게 분산되도록 SplitMix64의 finalizer로 섞습니다.
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,12 +1,116 @@
 package com.dustin.couponcore.util;
 
+// 쿠폰별 키는 {couponId=N} 해시 태그를 포함하여 Redis Cluster에서도 같은 슬롯에 저장됩니다.
+// 발급 요청 스크립트가 한 번에 사용하는 Set/Bitmap/카운터와 쿠폰별 큐를 CROSSSLOT 오류 없이 함께 다룰 수 있습니다.
 public class CouponRedisUtils {
 
     public static String getIssueRequestKey(long couponId) {
-        return "issue.request.couponId=%s".formatted(couponId);
+        return "issue.request.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    public static String getIssueRequestBitmapKey(long couponId) {
+        return "issue.request.bitmap.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    public static String getIssueRequestCountKey(long couponId) {
+        return "issue.request.count.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    public static String getIssueRequestCouponQueueKey(long couponId) {
+        return "issue.request.queue.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 서버들이 나누어 가져갈 수 있는 남은 발급 수량을 저장하는 키입니다.
+    public static String getIssueRequestQuotaKey(long couponId) {
+        return "issue.request.quota.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 서버가 가져간 lease별로 아직 사용하지 않은 발급 수량을 저장하는 Hash의 키입니다.
+    public static String getIssueRequestQuotaLeasesKey(long couponId) {
+        return "issue.request.quota.leases.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 서버가 가져간 lease의 만료 시각을 저장하는 ZSET의 키입니다.
+    public static String getIssueRequestQuotaLeaseExpiresKey(long couponId) {
+        return "issue.request.quota.lease.expires.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 쿠폰별 발급 요청 수를 제한하는 token bucket의 키입니다.
+    public static String getIssueRequestRateLimitKey(long couponId) {
+        return "issue.request.rate.limit.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 대기열에 입장한 유저 ID를 입장 시각 순으로 저장하는 ZSET의 키입니다.
+    public static String getWaitingRoomKey(long couponId) {
+        return "waiting.room.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 대기열을 통과해 발급 요청이 허용된 유저 ID를 만료 시각과 함께 저장하는 ZSET의 키입니다.
+    public static String getWaitingRoomAdmittedKey(long couponId) {
+        return "waiting.room.admitted.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 대기열에서 마지막으로 입장을 허용한 시각을 저장하는 키입니다.
+    public static String getWaitingRoomAdmissionKey(long couponId) {
+        return "waiting.room.admission.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 쿠폰별 큐가 생성된 쿠폰 ID 목록을 저장하는 Set의 키입니다.
+    public static String getIssueRequestCouponQueuesKey() {
+        return "issue.request.queues";
     }
 
     public static String getIssueRequestQueueKey() {
         return "issue.request";
     }
+
+    public static String getIssueRequestPartitionQueueKey(int partition) {
+        return "issue.request.partition=%s".formatted(partition);
+    }
+
+    public static String getIssueRequestStreamKey() {
+        return "issue.request.stream";
+    }
+
+    public static String getIssueRequestStreamPayloadField() {
+        return "payload";
+    }
+
+    public static String getIssueRequestProcessingKey(String consumerName) {
+        return "issue.request.processing.%s".formatted(consumerName);
+    }
+
+    public static String getIssueRequestConsumersKey() {
+        return "issue.request.consumers";
+    }
+
+    public static String getIssueRequestConsumerHeartbeatKey(String consumerName) {
+        return "issue.request.consumer.%s".formatted(consumerName);
+    }
+
+    public static String getIssueRequestDeadLetterKey() {
+        return "issue.request.dead-letter";
+    }
+
+    public static String getIssueRequestRetryKey() {
+        return "issue.request.retry";
+    }
+
+    public static String getIssueRequestRetryCountKey(long couponId, long userId) {
+        return "issue.request.retry.count.couponId=%s.userId=%s".formatted(couponId, userId);
+    }
+
+    // 존재하지 않는 쿠폰 ID임을 짧은 시간 동안 기록하는 키입니다.
+    public static String getCouponMissingKey(long couponId) {
+        return "coupon.missing.%s".formatted(getCouponHashTag(couponId));
+    }
+
+    // 쿠폰 로컬 캐시의 갱신/삭제 메시지를 전달하는 pub/sub 채널입니다.
+    public static String getCouponCacheChannel() {
+        return "coupon.cache";
+    }
+
+    private static String getCouponHashTag(long couponId) {
+        return "{couponId=%s}".formatted(couponId);
+    }
 }
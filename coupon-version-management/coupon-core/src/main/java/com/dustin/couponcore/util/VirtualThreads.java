@@ -0,0 +1,47 @@
+package com.dustin.couponcore.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// virtual thread를 생성하는 유틸리티입니다.
+// 프로젝트는 Java 17로 컴파일하므로 Thread.ofVirtual()을 리플렉션으로 호출하며, Java 21 이상에서 실행한 경우에만 사용할 수 있습니다.
+public class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    // 현재 JVM에서 virtual thread를 사용할 수 있는지 여부입니다.
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // prefix0, prefix1, ... 이름의 virtual thread를 생성하는 ThreadFactory를 반환합니다.
+    public static ThreadFactory threadFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            Method factory = builderType.getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("virtual thread를 사용할 수 없습니다. Java 21 이상에서 실행해야 합니다.", e);
+        }
+    }
+
+    // 작업마다 새 virtual thread를 생성하는 ExecutorService를 반환합니다.
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, threadFactory(prefix));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("virtual thread를 사용할 수 없습니다. Java 21 이상에서 실행해야 합니다.", e);
+        }
+    }
+}
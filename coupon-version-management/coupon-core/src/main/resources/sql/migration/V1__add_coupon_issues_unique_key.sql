@@ -0,0 +1,7 @@
+-- 쿠폰 발급 내역의 중복 발급 검증을 인덱스 조회로 처리하고, DB 제약 조건으로 중복 발급을 막습니다.
+-- 적용 전 중복 데이터가 있으면 실패하므로 아래 쿼리로 먼저 확인합니다.
+-- SELECT coupon_id, user_id, COUNT(*) FROM `coupon`.`coupon_issues` GROUP BY coupon_id, user_id HAVING COUNT(*) > 1;
+ALTER TABLE `coupon`.`coupon_issues`
+    ADD UNIQUE KEY `uk_coupon_issues_coupon_id_user_id` (`coupon_id`, `user_id`),
+    ALGORITHM = INPLACE,
+    LOCK = NONE;
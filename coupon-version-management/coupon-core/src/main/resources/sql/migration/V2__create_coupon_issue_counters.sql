@@ -0,0 +1,13 @@
+-- coupon.issue.mode=sharded 에서 사용하는 쿠폰 발급 수량 분산 카운터 테이블입니다.
+CREATE TABLE `coupon`.`coupon_issue_counters`
+(
+    `id`       BIGINT(20) NOT NULL AUTO_INCREMENT,
+    `coupon_id` BIGINT(20) NOT NULL COMMENT '쿠폰 ID',
+    `shard_no` INT        NOT NULL COMMENT '카운터 번호',
+    `quota`    INT        NOT NULL COMMENT '카운터에 할당된 발급 수량',
+    `issued`   INT        NOT NULL COMMENT '카운터에서 발급된 수량',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_coupon_issue_counters_coupon_id_shard_no` (`coupon_id`, `shard_no`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+    COMMENT '쿠폰 발급 수량 분산 카운터';
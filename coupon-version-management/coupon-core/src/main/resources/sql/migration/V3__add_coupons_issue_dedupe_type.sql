@@ -0,0 +1,3 @@
+-- 쿠폰별로 Redis 중복 발급 확인 방식(SET, BITMAP)을 선택하기 위한 컬럼입니다. NULL이면 SET을 사용합니다.
+ALTER TABLE `coupon`.`coupons`
+    ADD COLUMN `issue_dedupe_type` VARCHAR(255) NULL COMMENT 'Redis 중복 발급 확인 방식 (SET, BITMAP), NULL이면 SET' AFTER `date_issue_end`;
@@ -9,6 +9,7 @@ CREATE TABLE `coupon`.`coupons`
     `min_available_amount` INT          NOT NULL COMMENT '최소 사용 금액',
     `date_issue_start`     datetime(6) NOT NULL COMMENT '발급 시작 일시',
     `date_issue_end`       datetime(6) NOT NULL COMMENT '발급 종료 일시',
+    `issue_dedupe_type`    VARCHAR(255) NULL COMMENT 'Redis 중복 발급 확인 방식 (SET, BITMAP), NULL이면 SET',
     `date_created`         datetime(6) NOT NULL COMMENT '생성 일시',
     `date_updated`         datetime(6) NOT NULL COMMENT '수정 일시',
     PRIMARY KEY (`id`)
@@ -25,7 +26,21 @@ CREATE TABLE `coupon`.`coupon_issues`
     `date_used`    datetime(6) NULL COMMENT '사용 일시',
     `date_created` datetime(6) NOT NULL COMMENT '생성 일시',
     `date_updated` datetime(6) NOT NULL COMMENT '수정 일시',
-    PRIMARY KEY (`id`)
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_coupon_issues_coupon_id_user_id` (`coupon_id`, `user_id`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
     COMMENT '쿠폰 발급 내역';
+
+CREATE TABLE `coupon`.`coupon_issue_counters`
+(
+    `id`       BIGINT(20) NOT NULL AUTO_INCREMENT,
+    `coupon_id` BIGINT(20) NOT NULL COMMENT '쿠폰 ID',
+    `shard_no` INT        NOT NULL COMMENT '카운터 번호',
+    `quota`    INT        NOT NULL COMMENT '카운터에 할당된 발급 수량',
+    `issued`   INT        NOT NULL COMMENT '카운터에서 발급된 수량',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_coupon_issue_counters_coupon_id_shard_no` (`coupon_id`, `shard_no`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+    COMMENT '쿠폰 발급 수량 분산 카운터';
@@ -0,0 +1,11 @@
+package com.dustin.couponcore;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+// @DataJpaTest가 엔티티와 JPA 레포지토리를 찾는 기준이 되는 테스트용 설정입니다.
+// 슬라이스 테스트에서는 Redis, 스케줄러 등 JPA 외의 빈은 스캔되지 않으므로, 테스트에 필요한 빈은 @Import로 추가합니다.
+@EnableJpaAuditing
+@SpringBootApplication
+public class CouponCoreTestApplication {
+}
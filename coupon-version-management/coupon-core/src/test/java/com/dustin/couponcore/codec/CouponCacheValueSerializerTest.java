@@ -0,0 +1,87 @@
+package com.dustin.couponcore.codec;
+
+import com.dustin.couponcore.model.CouponIssueDedupeType;
+import com.dustin.couponcore.model.CouponType;
+import com.dustin.couponcore.repository.redis.dto.CouponRedisEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponCacheValueSerializerTest {
+
+    private final CouponCacheValueSerializer binarySerializer = new CouponCacheValueSerializer(CouponCodecType.BINARY);
+
+    private final CouponCacheValueSerializer jsonSerializer = new CouponCacheValueSerializer(CouponCodecType.JSON);
+
+    private final CouponRedisEntity coupon = new CouponRedisEntity(
+            1L,
+            CouponType.FIRST_COME_FIRST_SERVED,
+            500,
+            true,
+            LocalDateTime.of(2023, 11, 3, 13, 0, 0),
+            LocalDateTime.of(2023, 11, 4, 13, 0, 0),
+            CouponIssueDedupeType.BITMAP
+    );
+
+    @Test
+    @DisplayName("바이너리 형식은 쿠폰을 32바이트로 저장하고 같은 값으로 해석한다")
+    void binaryRoundTrip() {
+        byte[] bytes = binarySerializer.serialize(coupon);
+
+        assertThat(bytes).hasSize(32);
+        assertThat(binarySerializer.deserialize(bytes)).isEqualTo(coupon);
+    }
+
+    @Test
+    @DisplayName("최대 수량이 없는 쿠폰도 바이너리 형식으로 저장한다")
+    void binaryUnlimitedQuantity() {
+        CouponRedisEntity unlimited = new CouponRedisEntity(2L, CouponType.FIRST_COME_FIRST_SERVED, null, true,
+                coupon.dateIssueStart(), coupon.dateIssueEnd(), CouponIssueDedupeType.SET);
+
+        assertThat(binarySerializer.deserialize(binarySerializer.serialize(unlimited))).isEqualTo(unlimited);
+    }
+
+    @Test
+    @DisplayName("설정된 방식과 관계없이 두 형식을 모두 해석한다")
+    void deserializeBothFormats() {
+        assertThat(binarySerializer.deserialize(jsonSerializer.serialize(coupon))).isEqualTo(coupon);
+        assertThat(jsonSerializer.deserialize(binarySerializer.serialize(coupon))).isEqualTo(coupon);
+    }
+
+    @Test
+    @DisplayName("enum은 상수의 순서가 아닌 고정된 코드로 저장한다")
+    void enumCodes() {
+        byte[] bytes = binarySerializer.serialize(coupon);
+
+        // couponType은 버전(1) + id(8) 다음, issueDedupeType은 마지막 바이트에 저장됩니다.
+        assertThat(bytes[9]).isEqualTo((byte) 0);
+        assertThat(bytes[31]).isEqualTo((byte) 1);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 enum 코드는 SerializationException이 발생한다")
+    void unknownEnumCode() {
+        byte[] unknownCouponType = binarySerializer.serialize(coupon);
+        unknownCouponType[9] = 100;
+        byte[] unknownDedupeType = binarySerializer.serialize(coupon);
+        unknownDedupeType[31] = 100;
+
+        assertThatThrownBy(() -> binarySerializer.deserialize(unknownCouponType)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> binarySerializer.deserialize(unknownDedupeType)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("길이가 다른 바이너리 값은 SerializationException이 발생한다")
+    void invalidLength() {
+        byte[] bytes = binarySerializer.serialize(coupon);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThatThrownBy(() -> binarySerializer.deserialize(truncated)).isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.dustin.couponcore.codec;
+
+import com.dustin.couponcore.repository.redis.dto.CouponIssueRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponIssueRequestCodecTest {
+
+    private final BinaryCouponIssueRequestCodec binaryCodec = new BinaryCouponIssueRequestCodec();
+
+    private final JsonCouponIssueRequestCodec jsonCodec = new JsonCouponIssueRequestCodec();
+
+    @Test
+    @DisplayName("바이너리 형식은 고정 길이로 저장하고 같은 값으로 해석한다")
+    void binaryRoundTrip() {
+        CouponIssueRequest request = new CouponIssueRequest(1, Long.MAX_VALUE);
+
+        String value = binaryCodec.encode(request);
+
+        assertThat(value).startsWith("~").hasSize(23);
+        assertThat(binaryCodec.decode(value)).isEqualTo(request);
+    }
+
+    @Test
+    @DisplayName("바이너리 형식은 본문 뒤에 붙은 enqueuedAt을 해석한다")
+    void binaryEnqueuedAt() {
+        // Lua 스크립트가 Redis 서버 시각을 붙인 값과 같은 형식입니다.
+        String value = binaryCodec.encode(new CouponIssueRequest(1, 1234567)) + "1700000000000";
+
+        assertThat(binaryCodec.decode(value)).isEqualTo(new CouponIssueRequest(1, 1234567, 1700000000000L));
+        assertThat(binaryCodec.encode(new CouponIssueRequest(1, 1234567, 1700000000000L))).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("JSON 형식은 enqueuedAt이 없으면 필드를 저장하지 않는다")
+    void jsonWithoutEnqueuedAt() {
+        String value = jsonCodec.encode(new CouponIssueRequest(1, 1234567));
+
+        assertThat(value).startsWith("{").doesNotContain("enqueuedAt");
+        assertThat(jsonCodec.decode(value)).isEqualTo(new CouponIssueRequest(1, 1234567));
+    }
+
+    @Test
+    @DisplayName("JSON 형식은 Lua 스크립트가 추가한 enqueuedAt을 해석한다")
+    void jsonEnqueuedAt() {
+        String value = "{\"couponId\":1,\"userId\":1234567,\"enqueuedAt\":1700000000000}";
+
+        assertThat(jsonCodec.decode(value)).isEqualTo(new CouponIssueRequest(1, 1234567, 1700000000000L));
+    }
+
+    @Test
+    @DisplayName("설정된 방식과 관계없이 두 형식을 모두 해석한다")
+    void decodeBothFormats() {
+        CouponIssueRequest request = new CouponIssueRequest(10, 20, 1700000000000L);
+
+        assertThat(jsonCodec.decode(binaryCodec.encode(request))).isEqualTo(request);
+        assertThat(binaryCodec.decode(jsonCodec.encode(request))).isEqualTo(request);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 값이면 IllegalArgumentException이 발생한다")
+    void invalidValue() {
+        assertThatThrownBy(() -> binaryCodec.decode("~AAAA")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> binaryCodec.decode("not-json")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jsonCodec.decode("{\"couponId\":")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.dustin.couponcore.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponIssuePartitionerTest {
+
+    @Test
+    @DisplayName("파티션 수가 1보다 작으면 생성할 수 없다")
+    void invalidPartitionCount() {
+        assertThatThrownBy(() -> new CouponIssuePartitioner(0, CouponIssuePartitioner.Strategy.MODULO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("modulo 방식은 쿠폰 ID를 파티션 수로 나눈 나머지를 반환한다")
+    void modulo() {
+        CouponIssuePartitioner partitioner = new CouponIssuePartitioner(16, CouponIssuePartitioner.Strategy.MODULO);
+
+        assertThat(partitioner.partition(1)).isEqualTo(1);
+        assertThat(partitioner.partition(17)).isEqualTo(1);
+        assertThat(partitioner.partition(32)).isEqualTo(0);
+        assertThat(partitioner.partition(-1)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("hash 방식은 같은 쿠폰을 항상 같은 파티션에 저장한다")
+    void hashIsStable() {
+        CouponIssuePartitioner partitioner = new CouponIssuePartitioner(16, CouponIssuePartitioner.Strategy.HASH);
+
+        for (long couponId = -100; couponId <= 100; couponId++) {
+            int partition = partitioner.partition(couponId);
+            assertThat(partition).isBetween(0, 15);
+            assertThat(partitioner.partition(couponId)).isEqualTo(partition);
+        }
+    }
+
+    @Test
+    @DisplayName("hash 방식은 파티션 수의 배수인 쿠폰 ID도 여러 파티션에 나누어 저장한다")
+    void hashSpreadsIds() {
+        CouponIssuePartitioner partitioner = new CouponIssuePartitioner(16, CouponIssuePartitioner.Strategy.HASH);
+        Set<Integer> partitions = new HashSet<>();
+        for (long couponId = 16; couponId <= 16 * 200; couponId += 16) {
+            partitions.add(partitioner.partition(couponId));
+        }
+
+        assertThat(partitions).hasSize(16);
+    }
+}
@@ -0,0 +1,79 @@
+package com.dustin.couponcore.model;
+
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponTest {
+
+    @Test
+    @DisplayName("남은 수량이 충분하면 요청한 수량을 모두 발급한다")
+    void issueUpToRequested() {
+        Coupon coupon = issuableCoupon(100, 10);
+
+        assertThat(coupon.issueUpTo(5)).isEqualTo(5);
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("남은 수량보다 많이 요청하면 남은 수량만 발급한다")
+    void issueUpToRemaining() {
+        Coupon coupon = issuableCoupon(100, 97);
+
+        assertThat(coupon.issueUpTo(5)).isEqualTo(3);
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("최대 수량이 없으면 요청한 수량을 모두 발급한다")
+    void issueUpToUnlimited() {
+        Coupon coupon = issuableCoupon(null, 1_000);
+
+        assertThat(coupon.issueUpTo(500)).isEqualTo(500);
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(1_500);
+    }
+
+    @Test
+    @DisplayName("남은 수량이 없으면 수량 초과 예외가 발생한다")
+    void issueUpToSoldOut() {
+        Coupon coupon = issuableCoupon(100, 100);
+
+        assertThatThrownBy(() -> coupon.issueUpTo(5))
+                .isInstanceOf(CouponIssueException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY);
+        assertThat(coupon.getIssuedQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("발급 기간이 아니면 발급 일자 예외가 발생한다")
+    void issueUpToInvalidDate() {
+        Coupon coupon = Coupon.builder()
+                .totalQuantity(100)
+                .issuedQuantity(0)
+                .dateIssueStart(LocalDateTime.now().plusDays(1))
+                .dateIssueEnd(LocalDateTime.now().plusDays(2))
+                .build();
+
+        assertThatThrownBy(() -> coupon.issueUpTo(5))
+                .isInstanceOf(CouponIssueException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_COUPON_ISSUE_DATE);
+        assertThat(coupon.getIssuedQuantity()).isZero();
+    }
+
+    private Coupon issuableCoupon(Integer totalQuantity, int issuedQuantity) {
+        return Coupon.builder()
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(issuedQuantity)
+                .dateIssueStart(LocalDateTime.now().minusDays(1))
+                .dateIssueEnd(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
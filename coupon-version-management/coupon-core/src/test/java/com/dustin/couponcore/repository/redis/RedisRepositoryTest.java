@@ -0,0 +1,113 @@
+package com.dustin.couponcore.repository.redis;
+
+import com.dustin.couponcore.codec.JsonCouponIssueRequestCodec;
+import com.dustin.couponcore.component.CouponIssuePartitioner;
+import com.dustin.couponcore.model.CouponIssueDedupeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.dustin.couponcore.repository.redis.CouponIssueRequestCode.DUPLICATED_COUPON_ISSUE;
+import static com.dustin.couponcore.repository.redis.CouponIssueRequestCode.INVALID_COUPON_ISSUE_QUANTITY;
+import static com.dustin.couponcore.repository.redis.CouponIssueRequestCode.SUCCESS;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestBitmapKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestCountKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestKey;
+import static com.dustin.couponcore.util.CouponRedisUtils.getIssueRequestQueueKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// issueRequestBatch가 첫 번째 파이프라인의 조회 결과를 요청별 결과 코드로 바꾸고, 허용된 요청만 저장하는지 확인합니다.
+@SuppressWarnings("unchecked")
+class RedisRepositoryTest {
+
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+    private final RedisOperations<String, String> operations = mock(RedisOperations.class);
+
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private final ListOperations<String, String> listOperations = mock(ListOperations.class);
+
+    private RedisRepository redisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisRepository = new RedisRepository(redisTemplate, mock(ReactiveStringRedisTemplate.class),
+                new CouponIssuePartitioner(16, CouponIssuePartitioner.Strategy.MODULO), new JsonCouponIssueRequestCodec());
+        ReflectionTestUtils.setField(redisRepository, "queueType", CouponIssueQueueType.LIST);
+        when(operations.opsForSet()).thenReturn(setOperations);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(operations.opsForList()).thenReturn(listOperations);
+    }
+
+    @Test
+    @DisplayName("Set 방식은 중복 요청과 수량을 초과한 요청을 거절하고, 허용된 요청만 저장한다")
+    void issueRequestBatchWithSet() {
+        // 발급 요청 수 1, 11번 유저는 이미 요청했습니다.
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(1L, false, true, false, false, false), List.of());
+
+        List<CouponIssueRequestCode> codes = redisRepository.issueRequestBatch(1, List.of(10L, 11L, 10L, 12L, 13L),
+                List.of("p10", "p11", "p10-retry", "p12", "p13"), 3, CouponIssueDedupeType.SET);
+
+        assertThat(codes).containsExactly(SUCCESS, DUPLICATED_COUPON_ISSUE, DUPLICATED_COUPON_ISSUE, SUCCESS, INVALID_COUPON_ISSUE_QUANTITY);
+        executeSavePipeline();
+        verify(setOperations).add(getIssueRequestKey(1), "10", "12");
+        verify(listOperations).rightPushAll(getIssueRequestQueueKey(), List.of("p10", "p12"));
+    }
+
+    @Test
+    @DisplayName("Bitmap 방식은 카운터가 없으면 발급 요청 수를 0으로 보고, 허용된 수만큼 카운터를 증가시킨다")
+    void issueRequestBatchWithBitmap() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(null, false, false), List.of());
+
+        List<CouponIssueRequestCode> codes = redisRepository.issueRequestBatch(1, List.of(1L, 2L),
+                List.of("p1", "p2"), 1, CouponIssueDedupeType.BITMAP);
+
+        assertThat(codes).containsExactly(SUCCESS, INVALID_COUPON_ISSUE_QUANTITY);
+        executeSavePipeline();
+        verify(valueOperations).setBit(getIssueRequestBitmapKey(1), 1L, true);
+        verify(valueOperations).increment(getIssueRequestCountKey(1), 1L);
+        verify(listOperations).rightPushAll(getIssueRequestQueueKey(), List.of("p1"));
+    }
+
+    @Test
+    @DisplayName("허용된 요청이 없으면 저장 파이프라인을 실행하지 않는다")
+    void issueRequestBatchAllRejected() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList("5", true, false));
+
+        List<CouponIssueRequestCode> codes = redisRepository.issueRequestBatch(1, List.of(1L, 2L),
+                List.of("p1", "p2"), 5, CouponIssueDedupeType.BITMAP);
+
+        assertThat(codes).containsExactly(DUPLICATED_COUPON_ISSUE, INVALID_COUPON_ISSUE_QUANTITY);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    // 두 번째(저장) 파이프라인에 전달된 명령을 mock RedisOperations에 실행합니다.
+    private void executeSavePipeline() {
+        ArgumentCaptor<SessionCallback<Object>> captor = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(captor.capture());
+        captor.getAllValues().get(1).execute(operations);
+    }
+}
@@ -0,0 +1,111 @@
+package com.dustin.couponcore.service;
+
+import com.dustin.couponcore.configuration.IdGeneratorConfiguration;
+import com.dustin.couponcore.model.Coupon;
+import com.dustin.couponcore.model.CouponType;
+import com.dustin.couponcore.model.event.CouponIssueCompleteEvent;
+import com.dustin.couponcore.repository.mysql.CouponIssueCounterJpaRepository;
+import com.dustin.couponcore.repository.mysql.CouponJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// coupon.issue.mode=sharded에서 사용하는 카운터 row의 생성, 증가, 집계를 확인합니다.
+// INSERT IGNORE 등 MySQL 문법을 사용하므로 H2를 MySQL 모드로 실행합니다.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coupon-sharded;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "coupon.id.node-id=0",
+        "coupon.issue.counter.shard-count=4"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponIssueCounterService.class, IdGeneratorConfiguration.class})
+@RecordApplicationEvents
+class CouponIssueCounterServiceTest {
+
+    @Autowired
+    private CouponIssueCounterService couponIssueCounterService;
+
+    @Autowired
+    private CouponIssueCounterJpaRepository couponIssueCounterJpaRepository;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    @DisplayName("첫 발급에서 남은 수량을 카운터 row에 나누고, 모든 row가 소진될 때까지만 증가시킨다")
+    void increaseUntilSoldOut() {
+        Coupon coupon = saveCoupon(10, 2);
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(couponIssueCounterService.increase(coupon)).isTrue();
+        }
+
+        assertThat(couponIssueCounterService.increase(coupon)).isFalse();
+        assertThat(couponIssueCounterJpaRepository.countByCouponId(coupon.getId())).isEqualTo(4);
+        assertThat(couponIssueCounterJpaRepository.sumIssued(coupon.getId())).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("일괄 발급은 남은 수량만큼만 여러 row에 나누어 증가시킨다")
+    void increaseBatch() {
+        Coupon coupon = saveCoupon(10, 0);
+
+        assertThat(couponIssueCounterService.increase(coupon, 7)).isEqualTo(7);
+        assertThat(couponIssueCounterService.increase(coupon, 7)).isEqualTo(3);
+        assertThat(couponIssueCounterService.increase(coupon, 1)).isZero();
+        assertThat(couponIssueCounterJpaRepository.sumIssued(coupon.getId())).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("카운터 row의 합계를 쿠폰의 발급 수량에 반영하고, 모두 발급되었으면 완료 이벤트를 발행한다")
+    void aggregate() {
+        Coupon coupon = saveCoupon(5, 0);
+        for (int i = 0; i < 4; i++) {
+            couponIssueCounterService.increase(coupon);
+        }
+
+        couponIssueCounterService.aggregate(coupon.getId());
+        assertThat(findIssuedQuantity(coupon.getId())).isEqualTo(4);
+        assertThat(applicationEvents.stream(CouponIssueCompleteEvent.class)).isEmpty();
+
+        couponIssueCounterService.increase(coupon);
+        couponIssueCounterService.aggregate(coupon.getId());
+        assertThat(findIssuedQuantity(coupon.getId())).isEqualTo(5);
+        assertThat(applicationEvents.stream(CouponIssueCompleteEvent.class))
+                .containsExactly(new CouponIssueCompleteEvent(coupon.getId()));
+    }
+
+    private Coupon saveCoupon(int totalQuantity, int issuedQuantity) {
+        return couponJpaRepository.saveAndFlush(Coupon.builder()
+                .title("선착순 쿠폰")
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(issuedQuantity)
+                .dateIssueStart(LocalDateTime.now().minusDays(1))
+                .dateIssueEnd(LocalDateTime.now().plusDays(1))
+                .build());
+    }
+
+    private int findIssuedQuantity(long couponId) {
+        entityManager.flush();
+        entityManager.clear();
+        return couponJpaRepository.findById(couponId).orElseThrow().getIssuedQuantity();
+    }
+}
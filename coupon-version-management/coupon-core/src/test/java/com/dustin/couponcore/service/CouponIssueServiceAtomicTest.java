@@ -0,0 +1,128 @@
+package com.dustin.couponcore.service;
+
+import com.dustin.couponcore.configuration.IdGeneratorConfiguration;
+import com.dustin.couponcore.configuration.QueryDslConfiguration;
+import com.dustin.couponcore.exception.CouponIssueException;
+import com.dustin.couponcore.exception.ErrorCode;
+import com.dustin.couponcore.model.Coupon;
+import com.dustin.couponcore.model.CouponType;
+import com.dustin.couponcore.model.event.CouponIssueCompleteEvent;
+import com.dustin.couponcore.repository.mysql.CouponIssueRepository;
+import com.dustin.couponcore.repository.mysql.CouponJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// coupon.issue.mode=atomic에서 조건부 UPDATE로 발급 수량을 증가시키는지 확인합니다.
+// INSERT IGNORE 등 MySQL 문법을 사용하므로 H2를 MySQL 모드로 실행합니다.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coupon-atomic;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "coupon.id.node-id=0",
+        "coupon.issue.mode=atomic"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CouponIssueService.class, CouponIssueCounterService.class, CouponIssueRepository.class,
+        QueryDslConfiguration.class, IdGeneratorConfiguration.class})
+@RecordApplicationEvents
+class CouponIssueServiceAtomicTest {
+
+    @Autowired
+    private CouponIssueService couponIssueService;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    @DisplayName("최대 수량까지 발급하고, 마지막 수량을 발급한 요청만 완료 이벤트를 발행한다")
+    void issueUntilSoldOut() {
+        long couponId = saveCoupon(3, LocalDateTime.now().minusDays(1)).getId();
+
+        couponIssueService.issue(couponId, 1);
+        couponIssueService.issue(couponId, 2);
+        assertThat(applicationEvents.stream(CouponIssueCompleteEvent.class)).isEmpty();
+
+        couponIssueService.issue(couponId, 3);
+        assertThat(applicationEvents.stream(CouponIssueCompleteEvent.class))
+                .containsExactly(new CouponIssueCompleteEvent(couponId));
+        assertThat(findIssuedQuantity(couponId)).isEqualTo(3);
+
+        assertThatThrownBy(() -> couponIssueService.issue(couponId, 4))
+                .isInstanceOf(CouponIssueException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_COUPON_ISSUE_QUANTITY);
+        assertThat(findIssuedQuantity(couponId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 수량이 없는 쿠폰은 완료 이벤트 없이 발급 수량만 증가한다")
+    void issueUnlimited() {
+        long couponId = saveCoupon(null, LocalDateTime.now().minusDays(1)).getId();
+
+        couponIssueService.issue(couponId, 1);
+        couponIssueService.issue(couponId, 2);
+
+        assertThat(findIssuedQuantity(couponId)).isEqualTo(2);
+        assertThat(applicationEvents.stream(CouponIssueCompleteEvent.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발급 기간이 아니면 발급 일자 예외가 발생하고 발급 수량은 증가하지 않는다")
+    void issueBeforeStart() {
+        long couponId = saveCoupon(10, LocalDateTime.now().plusDays(1)).getId();
+
+        assertThatThrownBy(() -> couponIssueService.issue(couponId, 1))
+                .isInstanceOf(CouponIssueException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_COUPON_ISSUE_DATE);
+        assertThat(findIssuedQuantity(couponId)).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 유저는 중복 발급 예외가 발생한다")
+    void issueDuplicated() {
+        long couponId = saveCoupon(10, LocalDateTime.now().minusDays(1)).getId();
+        couponIssueService.issue(couponId, 1);
+
+        assertThatThrownBy(() -> couponIssueService.issue(couponId, 1))
+                .isInstanceOf(CouponIssueException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DUPLICATED_COUPON_ISSUE);
+        assertThat(findIssuedQuantity(couponId)).isEqualTo(1);
+    }
+
+    private Coupon saveCoupon(Integer totalQuantity, LocalDateTime dateIssueStart) {
+        return couponJpaRepository.saveAndFlush(Coupon.builder()
+                .title("선착순 쿠폰")
+                .couponType(CouponType.FIRST_COME_FIRST_SERVED)
+                .totalQuantity(totalQuantity)
+                .issuedQuantity(0)
+                .dateIssueStart(dateIssueStart)
+                .dateIssueEnd(LocalDateTime.now().plusDays(2))
+                .build());
+    }
+
+    // 조건부 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 컨텍스트를 비우고 DB의 값을 조회합니다.
+    private int findIssuedQuantity(long couponId) {
+        entityManager.flush();
+        entityManager.clear();
+        return couponJpaRepository.findById(couponId).orElseThrow().getIssuedQuantity();
+    }
+}
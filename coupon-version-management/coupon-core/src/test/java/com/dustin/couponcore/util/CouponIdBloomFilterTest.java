@@ -0,0 +1,50 @@
+package com.dustin.couponcore.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponIdBloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 쿠폰 ID는 항상 포함된 것으로 판단한다")
+    void mightContainAddedIds() {
+        CouponIdBloomFilter bloomFilter = new CouponIdBloomFilter(10_000, 0.01);
+        for (long couponId = 1; couponId <= 10_000; couponId++) {
+            bloomFilter.put(couponId);
+        }
+
+        for (long couponId = 1; couponId <= 10_000; couponId++) {
+            assertThat(bloomFilter.mightContain(couponId)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 쿠폰 ID의 false positive 비율은 설정한 값에 가깝다")
+    void falsePositiveRate() {
+        CouponIdBloomFilter bloomFilter = new CouponIdBloomFilter(10_000, 0.01);
+        for (long couponId = 1; couponId <= 10_000; couponId++) {
+            bloomFilter.put(couponId);
+        }
+
+        int falsePositives = 0;
+        int checks = 100_000;
+        for (long couponId = 1_000_000; couponId < 1_000_000 + checks; couponId++) {
+            if (bloomFilter.mightContain(couponId)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / checks).isLessThan(0.03);
+    }
+
+    @Test
+    @DisplayName("비어 있는 Bloom filter는 어떤 쿠폰 ID도 포함하지 않는다")
+    void emptyFilter() {
+        CouponIdBloomFilter bloomFilter = new CouponIdBloomFilter(0, 0.01);
+
+        assertThat(bloomFilter.mightContain(1)).isFalse();
+        assertThat(bloomFilter.mightContain(-1)).isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package com.dustin.couponcore.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID로는 생성할 수 없다")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("밀리초 내 순번을 모두 사용해도 ID는 중복 없이 증가한다")
+    void increasingIds() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = new HashSet<>();
+        long lastId = 0;
+        // 밀리초 내 순번(4096개)을 넘도록 생성합니다.
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(lastId);
+            ids.add(id);
+            lastId = id;
+        }
+
+        assertThat(ids).hasSize(20_000);
+    }
+
+    @Test
+    @DisplayName("ID에는 노드 ID가 포함된다")
+    void nodeIdBits() {
+        long id = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID).nextId();
+
+        assertThat((id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(SnowflakeIdGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 밀리초에도 다른 ID를 생성한다")
+    void differentNodes() {
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(node1.nextId());
+            ids.add(node2.nextId());
+        }
+
+        assertThat(ids).hasSize(2_000);
+    }
+}
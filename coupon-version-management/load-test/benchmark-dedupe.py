@@ -0,0 +1,104 @@
+"""
+쿠폰 발급 요청의 중복 확인 자료구조(Set, Bitmap + INCR)의 메모리 사용량과 지연 시간을 비교합니다.
+
+RedisRepository의 SET, BITMAP 스크립트와 같은 명령을 같은 유저 ID 분포로 실행한 뒤
+MEMORY USAGE로 키별 메모리를, 클라이언트에서 측정한 왕복 시간으로 지연 시간을 비교합니다.
+
+사용법:
+    pip install redis
+    python benchmark-dedupe.py --host localhost --port 6379 --users 1000000 --max-user-id 10000000
+"""
+import argparse
+import random
+import time
+
+import redis
+
+SET_SCRIPT = """
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return '2'
+end
+if tonumber(ARGV[2]) > redis.call('SCARD', KEYS[1]) then
+    redis.call('SADD', KEYS[1], ARGV[1])
+    return '1'
+end
+return '3'
+"""
+
+BITMAP_SCRIPT = """
+if redis.call('GETBIT', KEYS[1], ARGV[1]) == 1 then
+    return '2'
+end
+if tonumber(ARGV[2]) > tonumber(redis.call('GET', KEYS[2]) or '0') then
+    redis.call('SETBIT', KEYS[1], ARGV[1], 1)
+    redis.call('INCR', KEYS[2])
+    return '1'
+end
+return '3'
+"""
+
+SET_KEY = "benchmark.issue.request.couponId=1"
+BITMAP_KEY = "benchmark.issue.request.bitmap.couponId=1"
+COUNT_KEY = "benchmark.issue.request.count.couponId=1"
+
+
+def percentile(values, p):
+    ordered = sorted(values)
+    return ordered[min(len(ordered) - 1, int(len(ordered) * p))]
+
+
+def run(client, script, keys, user_ids, total, pipeline_size):
+    """pipeline_size 건씩 스크립트를 실행하고 한 건당 평균 지연 시간(us)의 목록을 반환합니다."""
+    latencies = []
+    for start in range(0, len(user_ids), pipeline_size):
+        chunk = user_ids[start:start + pipeline_size]
+        pipe = client.pipeline(transaction=False)
+        for user_id in chunk:
+            script(keys=keys, args=[user_id, total], client=pipe)
+        begin = time.perf_counter()
+        pipe.execute()
+        latencies.append((time.perf_counter() - begin) * 1_000_000 / len(chunk))
+    return latencies
+
+
+def report(name, client, keys, latencies):
+    memory = sum(client.memory_usage(key) or 0 for key in keys)
+    print("%-7s memory: %10.2f MB, latency avg: %7.2f us, p50: %7.2f us, p99: %7.2f us" % (
+        name,
+        memory / 1024 / 1024,
+        sum(latencies) / len(latencies),
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.99),
+    ))
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--host", default="localhost")
+    parser.add_argument("--port", type=int, default=6379)
+    parser.add_argument("--users", type=int, default=1_000_000, help="발급 요청 수")
+    parser.add_argument("--max-user-id", type=int, default=10_000_000, help="유저 ID 최대값 (locustfile과 동일)")
+    parser.add_argument("--pipeline", type=int, default=100, help="한 번에 전송할 요청 수")
+    args = parser.parse_args()
+
+    client = redis.Redis(host=args.host, port=args.port)
+    client.delete(SET_KEY, BITMAP_KEY, COUNT_KEY)
+
+    # locustfile과 같이 1 ~ max-user-id 범위의 유저 ID를 중복 없이 사용합니다.
+    user_ids = random.sample(range(1, args.max_user_id + 1), args.users)
+    total = args.users
+
+    try:
+        set_latencies = run(client, client.register_script(SET_SCRIPT), [SET_KEY], user_ids, total, args.pipeline)
+        bitmap_latencies = run(client, client.register_script(BITMAP_SCRIPT), [BITMAP_KEY, COUNT_KEY],
+                               user_ids, total, args.pipeline)
+
+        print("users: %s, max user id: %s" % (args.users, args.max_user_id))
+        report("set", client, [SET_KEY], set_latencies)
+        report("bitmap", client, [BITMAP_KEY, COUNT_KEY], bitmap_latencies)
+    finally:
+        client.delete(SET_KEY, BITMAP_KEY, COUNT_KEY)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,33 @@
+import random
+from locust import task, FastHttpUser, stats
+
+stats.PERCENTILES_TO_CHART = [0.95, 0.99]
+
+# /v2/issue-async와 /v3/issue-async를 같은 조건으로 비교합니다.
+# 클래스 이름을 지정하여 하나씩 실행합니다. ex) locust -f locustfile-issue-asyncV3.py CouponIssueV3
+class CouponIssueV2(FastHttpUser):
+    connection_timeout = 10.0
+    network_timeout = 10.0
+
+    @task
+    def issue(self):
+        payload = {
+            "userId": random.randint(1, 10000000),
+            "couponId": 1
+        }
+        with self.rest("POST", "/v2/issue-async", json=payload):
+            pass
+
+
+class CouponIssueV3(FastHttpUser):
+    connection_timeout = 10.0
+    network_timeout = 10.0
+
+    @task
+    def issue(self):
+        payload = {
+            "userId": random.randint(1, 10000000),
+            "couponId": 1
+        }
+        with self.rest("POST", "/v3/issue-async", json=payload):
+            pass
@@ -0,0 +1,25 @@
+import os
+import random
+from locust import task, FastHttpUser, stats
+
+stats.PERCENTILES_TO_CHART = [0.95, 0.99]
+
+# 수량이 모두 소진된 쿠폰에 발급 요청을 보내 거절 응답의 처리량과 지연 시간을 측정합니다.
+# 같은 조건에서 변경 전후 coupon-api의 CPU 사용률과 GC 메트릭(jvm.gc.pause, jvm.gc.memory.allocated)을 함께 비교합니다.
+# SOLD_OUT_COUPON_ID로 소진된 쿠폰 ID를, ISSUE_PATH로 요청 경로를 지정합니다.
+SOLD_OUT_COUPON_ID = int(os.getenv("SOLD_OUT_COUPON_ID", "1"))
+ISSUE_PATH = os.getenv("ISSUE_PATH", "/v2/issue-async")
+
+
+class CouponIssueRejection(FastHttpUser):
+    connection_timeout = 10.0
+    network_timeout = 10.0
+
+    @task
+    def issue(self):
+        payload = {
+            "userId": random.randint(1, 10000000),
+            "couponId": SOLD_OUT_COUPON_ID
+        }
+        with self.rest("POST", ISSUE_PATH, json=payload):
+            pass
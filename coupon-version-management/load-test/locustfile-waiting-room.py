@@ -0,0 +1,38 @@
+import os
+import random
+import time
+from locust import task, FastHttpUser, stats
+
+stats.PERCENTILES_TO_CHART = [0.95, 0.99]
+
+# 대기열을 적용한 쿠폰에 입장한 뒤, 입장이 허용될 때까지 순서를 조회하고 발급을 요청합니다.
+# 유저 수를 크게 늘려도 coupon.issue.queue.size와 발급 요청 처리량이 coupon.waiting-room.admission-per-second로 유지되는지 확인합니다.
+# WAITING_ROOM_COUPON_ID로 coupon.waiting-room.coupon-ids에 설정한 쿠폰 ID를, POLL_INTERVAL_SECONDS로 순서 조회 주기를 지정합니다.
+WAITING_ROOM_COUPON_ID = int(os.getenv("WAITING_ROOM_COUPON_ID", "1"))
+POLL_INTERVAL_SECONDS = float(os.getenv("POLL_INTERVAL_SECONDS", "1"))
+
+
+class CouponWaitingRoom(FastHttpUser):
+    connection_timeout = 10.0
+    network_timeout = 10.0
+
+    @task
+    def issue(self):
+        user_id = random.randint(1, 10000000)
+        payload = {
+            "userId": user_id,
+            "couponId": WAITING_ROOM_COUPON_ID
+        }
+        with self.rest("POST", "/v1/waiting-room", json=payload) as response:
+            admitted = response.js is not None and response.js.get("isAdmitted")
+
+        while not admitted:
+            time.sleep(POLL_INTERVAL_SECONDS)
+            params = "?couponId=%s&userId=%s" % (WAITING_ROOM_COUPON_ID, user_id)
+            with self.rest("GET", "/v1/waiting-room" + params, name="/v1/waiting-room?status") as response:
+                if response.js is None or not (response.js.get("isAdmitted") or response.js.get("isWaiting")):
+                    return
+                admitted = response.js.get("isAdmitted")
+
+        with self.rest("POST", "/v2/issue-async", json=payload):
+            pass